@@ -0,0 +1,100 @@
+package graphe;
+
+import java.util.Arrays;
+
+/**
+ * Algorithme A* : recherche de Dijkstra guidée vers l'arrivée par une heuristique.
+ *
+ * Les nœuds sortent de la file par ordre de valeur + estimer(nœud, arrivée) au lieu de
+ * valeur seule : les nœuds qui s'éloignent de l'arrivée passent après, et beaucoup
+ * ne sont jamais traités. Avec une heuristique nulle, on retrouve exactement
+ * DijkstraTas.resoudre(g, depart, arrivee).
+ *
+ * Si l'heuristique est admissible mais pas cohérente, un nœud déjà traité peut encore
+ * être amélioré : il est alors remis dans la file, et le chemin trouvé reste optimal.
+ * Un nœud estimé à l'infini (arrivée inaccessible depuis lui) n'entre jamais dans la file.
+ */
+public class AEtoile {
+    // Attributs privés
+    private final Heuristique heuristique;
+
+    /**
+     * Constructeur
+     * @param heuristique estimation admissible du coût restant jusqu'à l'arrivée
+     */
+    public AEtoile(Heuristique heuristique) {
+        this.heuristique = heuristique;
+    }
+
+    /**
+     * Cherche le plus court chemin entre deux nœuds
+     * @param g graphe (coûts positifs)
+     * @param depart sommet de départ
+     * @param arrivee sommet d'arrivée
+     * @return chemin et coût, même coût que DijkstraTas.resoudre(g, depart, arrivee)
+     */
+    public Chemin resoudre(Graphe g, String depart, String arrivee) {
+        int a = g.indice(depart);
+        int b = g.indice(arrivee);
+        Relaxation relaxation = new Relaxation(g.nbNoeuds(), b, this.heuristique);
+        int nbTraites = 0;
+        double estimation = a == -1 || b == -1 ? Double.POSITIVE_INFINITY : this.heuristique.estimer(a, b);
+        if (estimation != Double.POSITIVE_INFINITY) {
+            relaxation.valeur[a] = 0;
+            relaxation.file.inserer(a, estimation);
+            while (!relaxation.file.estVide()) {
+                int u = relaxation.file.extraireMin();
+                nbTraites++;
+                if (u == b) {
+                    break;
+                }
+                relaxation.u = u;
+                g.pourChaqueSuivant(u, relaxation);
+            }
+        }
+        double cout = b == -1 ? Double.MAX_VALUE : relaxation.valeur[b];
+        return Chemin.depuisParents(g, relaxation.parent, b, cout, nbTraites);
+    }
+
+    /**
+     * Relâchement des arcs sortant du nœud u : la priorité d'un nœud amélioré
+     * est sa nouvelle valeur plus l'estimation du coût restant
+     */
+    private static class Relaxation implements VisiteurArc {
+        private final double[] valeur;
+        private final int[] parent;
+        private final FilePriorite file;
+        private final int arrivee;
+        private final Heuristique heuristique;
+        private int u;
+
+        private Relaxation(int n, int arrivee, Heuristique heuristique) {
+            this.valeur = new double[n];
+            this.parent = new int[n];
+            this.file = new TasDAire(n, 4);
+            this.arrivee = arrivee;
+            this.heuristique = heuristique;
+            Arrays.fill(this.valeur, Double.MAX_VALUE);
+            Arrays.fill(this.parent, -1);
+        }
+
+        @Override
+        public void visiter(int v, double cout, int ligne) {
+            double d = this.valeur[this.u] + cout;
+            if (d < this.valeur[v]) {
+                this.valeur[v] = d;
+                this.parent[v] = this.u;
+                double priorite = d + this.heuristique.estimer(v, this.arrivee);
+                if (priorite == Double.POSITIVE_INFINITY) {
+                    return;
+                }
+                if (this.file.contient(v)) {
+                    this.file.diminuer(v, priorite);
+                } else {
+                    // Nœud jamais atteint, ou déjà traité mais amélioré (heuristique non cohérente)
+                    this.file.inserer(v, priorite);
+                }
+            }
+        }
+    }
+}
@@ -8,6 +8,7 @@ public class Arc {
     private String dest; // Nœud de destination
     private double cout; // Coût (ou poids) de l'arc
     private String ligne; // Numéro de ligne (pour le métro)
+    private int idLigne; // Identifiant de la ligne dans le registre du graphe (-1 si inconnu)
     
     /**
      * Constructeur d'un arc avec ligne
@@ -16,9 +17,21 @@ public class Arc {
      * @param ligne numéro de ligne (peut contenir "bis", "ter", etc.)
      */
     public Arc(String dest, double cout, String ligne) {
+        this(dest, cout, ligne, -1); // Identifiant de ligne inconnu
+    }
+
+    /**
+     * Constructeur d'un arc avec ligne et identifiant de ligne
+     * @param dest chaîne représentant le nœud de destination
+     * @param cout valeur réelle positive représentant le coût de l'arc
+     * @param ligne numéro de ligne (peut contenir "bis", "ter", etc.)
+     * @param idLigne identifiant de la ligne dans le registre Lignes du graphe
+     */
+    public Arc(String dest, double cout, String ligne, int idLigne) {
         this.dest = dest;
         this.cout = cout;
         this.ligne = ligne;
+        this.idLigne = idLigne;
     }
     
     /**
@@ -55,11 +68,20 @@ public class Arc {
     }
     
     /**
-     * Définit le numéro de ligne
+     * Retourne l'identifiant de la ligne dans le registre du graphe
+     * @return identifiant de la ligne, -1 si non défini
+     */
+    public int getIdLigne() {
+        return idLigne;
+    }
+    
+    /**
+     * Définit le numéro de ligne (l'identifiant de ligne devient inconnu)
      * @param ligne numéro de ligne
      */
     public void setLigne(String ligne) {
         this.ligne = ligne;
+        this.idLigne = -1;
     }
     
     /**
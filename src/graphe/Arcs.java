@@ -1,34 +1,148 @@
 package graphe;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Classe représentant un ensemble d'arcs sortant d'un nœud
+ *
+ * Les arcs sont stockés dans des tableaux parallèles (destination, coût, ligne)
+ * plutôt que sous forme d'objets Arc : le k-ième arc correspond à la case k
+ * de chaque tableau. Les tableaux grandissent au fur et à mesure des ajouts.
  */
 public class Arcs {
-    // Attribut privé
-    private List<Arc> arcs; // Liste des arcs
-    
+    // Attributs privés
+    private int[] dest; // Indice du nœud de destination de chaque arc
+    private double[] cout; // Coût de chaque arc
+    private short[] ligne; // Identifiant de ligne de chaque arc (-1 si non définie)
+    private int taille; // Nombre d'arcs effectivement stockés
+
     /**
-     * Constructeur qui initialise une liste d'arcs vide
+     * Constructeur qui initialise un ensemble d'arcs vide
      */
     public Arcs() {
-        this.arcs = new ArrayList<>();
+        this.dest = new int[2];
+        this.cout = new double[2];
+        this.ligne = new short[2];
+        this.taille = 0;
+    }
+
+    /**
+     * Ajoute un arc à l'ensemble
+     * @param dest indice du nœud de destination
+     * @param cout coût de l'arc
+     * @param ligne identifiant de la ligne (-1 si non définie, au plus Short.MAX_VALUE)
+     */
+    public void ajouterArc(int dest, double cout, int ligne) {
+        if (this.taille == this.dest.length) {
+            // Tableaux pleins : on double leur capacité
+            int capacite = this.taille * 2;
+            this.dest = Arrays.copyOf(this.dest, capacite);
+            this.cout = Arrays.copyOf(this.cout, capacite);
+            this.ligne = Arrays.copyOf(this.ligne, capacite);
+        }
+        this.dest[this.taille] = dest;
+        this.cout[this.taille] = cout;
+        this.ligne[this.taille] = (short) ligne;
+        this.taille++;
+    }
+
+    /**
+     * Retourne le nombre d'arcs
+     * @return nombre d'arcs
+     */
+    public int taille() {
+        return this.taille;
     }
-    
+
     /**
-     * Ajoute un arc à la liste
-     * @param a arc à ajouter
+     * Retourne la destination du k-ième arc
+     * @param k numéro de l'arc
+     * @return indice du nœud de destination
      */
-    public void ajouterArc(Arc a) {
-        this.arcs.add(a);
+    public int getDest(int k) {
+        return this.dest[k];
     }
-    
+
     /**
-     * Retourne la liste des arcs
+     * Retourne le coût du k-ième arc
+     * @param k numéro de l'arc
+     * @return coût de l'arc
+     */
+    public double getCout(int k) {
+        return this.cout[k];
+    }
+
+    /**
+     * Retourne l'identifiant de ligne du k-ième arc
+     * @param k numéro de l'arc
+     * @return identifiant de la ligne, -1 si non définie
+     */
+    public int getLigne(int k) {
+        return this.ligne[k];
+    }
+
+    /**
+     * Fusionne les arcs parallèles : il ne reste qu'un arc par couple (destination, ligne),
+     * avec le plus petit coût. Les arcs gardés restent dans l'ordre de leur premier ajout.
+     * @return nombre d'arcs supprimés
+     */
+    public int dedoublonner() {
+        // Au-delà de quelques arcs, les arcs gardés sont retrouvés par une table de hachage
+        Map<Long, Integer> gardes = this.taille > 16 ? new HashMap<>() : null;
+        int nbGardes = 0;
+        for (int k = 0; k < this.taille; k++) {
+            long cle = ((long) this.dest[k] << 16) | (this.ligne[k] & 0xFFFF);
+            int j = -1;
+            if (gardes != null) {
+                j = gardes.getOrDefault(cle, -1);
+            } else {
+                for (int i = 0; i < nbGardes && j == -1; i++) {
+                    if (this.dest[i] == this.dest[k] && this.ligne[i] == this.ligne[k]) {
+                        j = i;
+                    }
+                }
+            }
+            if (j == -1) {
+                // Premier arc vers cette destination sur cette ligne : on le garde
+                this.dest[nbGardes] = this.dest[k];
+                this.cout[nbGardes] = this.cout[k];
+                this.ligne[nbGardes] = this.ligne[k];
+                if (gardes != null) {
+                    gardes.put(cle, nbGardes);
+                }
+                nbGardes++;
+            } else if (this.cout[k] < this.cout[j]) {
+                this.cout[j] = this.cout[k];
+            }
+        }
+        int supprimes = this.taille - nbGardes;
+        this.taille = nbGardes;
+        return supprimes;
+    }
+
+    /**
+     * Retourne la liste des arcs sous forme d'objets Arc.
+     * Les objets sont créés à chaque appel : modifier la liste ne modifie pas le graphe.
+     * @param g graphe auquel appartiennent les arcs, pour retrouver les noms des nœuds et des lignes
      * @return liste des arcs
      */
-    public List<Arc> getArcs() {
-        return this.arcs;
+    public List<Arc> getArcs(Graphe g) {
+        List<Arc> arcs = new ArrayList<>(this.taille);
+        for (int k = 0; k < this.taille; k++) {
+            arcs.add(new Arc(g.nom(this.dest[k]), this.cout[k], g.nomLigne(this.ligne[k]), this.ligne[k]));
+        }
+        return arcs;
+    }
+
+    /**
+     * Retourne la place occupée par l'ensemble d'arcs, capacité inutilisée comprise
+     * @return nombre d'octets utilisés
+     */
+    public long octetsUtilises() {
+        return Mesurable.objet(4) + Mesurable.tableau(this.dest.length, 4)
+               + Mesurable.tableau(this.cout.length, 8) + Mesurable.tableau(this.ligne.length, 2);
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,5 @@
     package graphe;
-    import java.util.List;
+    import java.util.Arrays;
     /**
      * 
      * Algorithme pointFixe(Graphe g, Noeud depart)
@@ -61,105 +61,123 @@
          * @return objet Valeurs contenant les distances et les parents de chaque nœud
          */
         public Valeurs resoudre(Graphe g, String depart) {
-            // Initialisation de l'objet Valeurs pour stocker les résultats
-            Valeurs valeurs = new Valeurs();
+            // Initialisation des distances et parents, stockés par indice de nœud
+            int n = g.nbNoeuds();
+            double[] valeur = new double[n];
+            int[] parent = new int[n];
+            initialiser(g, depart, valeur, parent);
             
-            // Initialisation des distances et parents
-            List<String> noeuds = g.listeNoeuds();
-            for (String noeud : noeuds) {
-                valeurs.setValeur(noeud, Double.MAX_VALUE);
-                valeurs.setParent(noeud, null);
-            }
+            // Boucle principale pour atteindre le point fixe
+            pointFixe(g, new Relaxation(valeur, parent, null));
             
-            // La distance du nœud de départ à lui-même est 0
-            valeurs.setValeur(depart, 0);
+            return Valeurs.depuisTableaux(g, depart, valeur, parent);
+        }
+
+        /**
+         * Initialise les distances à l'infini et les parents à null,
+         * puis la distance du nœud de départ à 0.
+         * @param g graphe sur lequel appliquer l'algorithme
+         * @param depart nœud de départ
+         * @param valeur distance de chaque nœud, à initialiser
+         * @param parent parent de chaque nœud, à initialiser
+         */
+        private void initialiser(Graphe g, String depart, double[] valeur, int[] parent) {
+            Arrays.fill(valeur, Double.MAX_VALUE);
+            Arrays.fill(parent, -1);
             
-            // Boucle principale pour atteindre le point fixe
-            boolean modifie = true;
-            while (modifie) {
-                modifie = false;
+            // La distance du nœud de départ à lui-même est 0
+            int a = g.indice(depart);
+            if (a != -1) {
+                valeur[a] = 0;
+            }
+        }
+
+        /**
+         * Relâche les arcs de tous les nœuds jusqu'à ce qu'aucune distance ne soit modifiée.
+         * @param g graphe sur lequel appliquer l'algorithme
+         * @param relaxation relâchement des arcs, contenant les tableaux de l'algorithme
+         */
+        private void pointFixe(Graphe g, Relaxation relaxation) {
+            relaxation.modifie = true;
+            while (relaxation.modifie) {
+                relaxation.modifie = false;
                 
                 // Pour chaque nœud du graphe
-                for (String noeud : noeuds) {
+                for (int noeud = 0; noeud < g.nbNoeuds(); noeud++) {
                     // On ne traite le nœud que si sa distance n'est pas infinie
-                    double distanceNoeud = valeurs.getValeur(noeud);
-                    if (distanceNoeud != Double.MAX_VALUE) {
-                        
+                    if (relaxation.valeur[noeud] != Double.MAX_VALUE) {
                         // Pour chaque arc sortant du nœud
-                        for (Arc arc : g.suivants(noeud)) {
-                            String destination = arc.getDest();
-                            double cout = arc.getCout();
-                            
-                            // Calcul de la nouvelle distance potentielle
-                            double nouvDistance = distanceNoeud + cout;
-                            
-                            // Si la nouvelle distance est meilleure
-                            if (nouvDistance < valeurs.getValeur(destination)) {
-                                // Mise à jour de la distance et du parent
-                                valeurs.setValeur(destination, nouvDistance);
-                                valeurs.setParent(destination, noeud);
-                                modifie = true;
-                            }
-                        }
+                        relaxation.noeud = noeud;
+                        relaxation.distanceNoeud = relaxation.valeur[noeud];
+                        relaxation.ligneActuelle = relaxation.ligne == null ? -1 : relaxation.ligne[noeud];
+                        g.pourChaqueSuivant(noeud, relaxation);
                     }
                 }
             }
-            
-            return valeurs;
+        }
+
+        /**
+         * Relâchement d'un arc sortant du nœud courant : si la nouvelle distance
+         * est meilleure, on met à jour la distance et le parent de la destination.
+         * Si le tableau des lignes est fourni, un changement de ligne coûte une pénalité.
+         */
+        private static class Relaxation implements VisiteurArc {
+            private final double[] valeur;
+            private final int[] parent;
+            private final int[] ligne; // Ligne utilisée pour atteindre chaque nœud, null sans pénalité
+            private int noeud; // Nœud dont on parcourt les arcs
+            private double distanceNoeud; // Distance du nœud au début du parcours de ses arcs
+            private int ligneActuelle; // Ligne utilisée pour atteindre le nœud
+            private boolean modifie; // Indicateur de modification lors d'une itération
+
+            private Relaxation(double[] valeur, int[] parent, int[] ligne) {
+                this.valeur = valeur;
+                this.parent = parent;
+                this.ligne = ligne;
+            }
+
+            @Override
+            public void visiter(int destination, double cout, int ligneArc) {
+                // Calcul de la nouvelle distance potentielle
+                double nouvDistance = this.distanceNoeud + cout;
+                if (this.ligneActuelle != -1 && ligneArc != -1 && ligneArc != this.ligneActuelle) {
+                    nouvDistance += 10;
+                }
+                
+                // Si la nouvelle distance est meilleure
+                if (nouvDistance < this.valeur[destination]) {
+                    // Mise à jour de la distance et du parent
+                    this.valeur[destination] = nouvDistance;
+                    this.parent[destination] = this.noeud;
+                    if (this.ligne != null) {
+                        this.ligne[destination] = ligneArc;
+                    }
+                    this.modifie = true;
+                }
+            }
         }
 
         /**
          * Variante de l'algorithme de Bellman-Ford qui prend en compte une pénalité
          * lors des changements de ligne (utile pour les graphes modélisant un réseau de transport).
+         * Les lignes sont comparées par leur identifiant entier.
          *
          * @param g graphe pondéré avec informations de lignes
          * @param depart nom du nœud de départ
          * @return objet contenant les distances, parents et lignes associées à chaque nœud
          */
         public Valeurs resoudre2(Graphe g, String depart) {
-            Valeurs valeurs = new Valeurs();
-
-            List<String> noeuds = g.listeNoeuds();
-            for (String noeud : noeuds) {
-                valeurs.setValeur(noeud, Double.MAX_VALUE);
-                valeurs.setParent(noeud, null);
-                valeurs.setLigne(noeud, null); // init ligne
-            }
+            int n = g.nbNoeuds();
+            double[] valeur = new double[n];
+            int[] parent = new int[n];
+            int[] ligne = new int[n];
 
-            valeurs.setValeur(depart, 0);
-            valeurs.setLigne(depart, null);
+            initialiser(g, depart, valeur, parent);
+            Arrays.fill(ligne, -1); // init ligne
 
-            boolean modifie = true;
-
-            while (modifie) {
-                modifie = false;
-
-                for (String noeud : noeuds) {
-                    double distanceNoeud = valeurs.getValeur(noeud);
-                    if (distanceNoeud == Double.MAX_VALUE) continue;
-
-                    String ligneActuelle = valeurs.getLigne(noeud);
-
-                    for (Arc arc : g.suivants(noeud)) {
-                        String dest = arc.getDest();
-                        double coutArc = arc.getCout();
-                        String ligneArc = arc.getLigne();
-
-                        double penalite = (ligneActuelle != null && ligneArc != null && !ligneArc.equals(ligneActuelle)) ? 10 : 0;
-
-                        double nouvelleDistance = distanceNoeud + coutArc + penalite;
-
-                        if (nouvelleDistance < valeurs.getValeur(dest)) {
-                            valeurs.setValeur(dest, nouvelleDistance);
-                            valeurs.setParent(dest, noeud);
-                            valeurs.setLigne(dest, ligneArc);
-                            modifie = true;
-                        }
-                    }
-                }
-            }
+            pointFixe(g, new Relaxation(valeur, parent, ligne));
 
-            return valeurs;
+            return Valeurs.depuisTableaux(g, depart, valeur, parent, ligne);
         }
 
 
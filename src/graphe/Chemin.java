@@ -0,0 +1,85 @@
+package graphe;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Résultat d'une recherche de plus court chemin vers une destination précise :
+ * les nœuds du chemin, son coût et le nombre de nœuds traités pour le trouver.
+ */
+public class Chemin {
+    // Attributs privés
+    private final List<String> noeuds; // Du départ à l'arrivée, vide s'il n'y a pas de chemin
+    private final double cout; // Double.MAX_VALUE s'il n'y a pas de chemin
+    private final int nbNoeudsTraites;
+
+    /**
+     * Constructeur
+     * @param noeuds nœuds du chemin, du départ à l'arrivée (vide s'il n'y a pas de chemin)
+     * @param cout coût du chemin
+     * @param nbNoeudsTraites nombre de nœuds traités par la recherche
+     */
+    public Chemin(List<String> noeuds, double cout, int nbNoeudsTraites) {
+        this.noeuds = Collections.unmodifiableList(noeuds);
+        this.cout = noeuds.isEmpty() ? Double.MAX_VALUE : cout;
+        this.nbNoeudsTraites = nbNoeudsTraites;
+    }
+
+    /**
+     * Construit le chemin vers un nœud en remontant les parents
+     * @param g graphe de la recherche
+     * @param parent indice du parent de chaque nœud (-1 pour le départ)
+     * @param arrivee indice du nœud d'arrivée, -1 s'il n'existe pas
+     * @param cout coût du chemin, Double.MAX_VALUE si l'arrivée n'est pas accessible
+     * @param nbNoeudsTraites nombre de nœuds traités par la recherche
+     * @return chemin trouvé
+     */
+    static Chemin depuisParents(Graphe g, int[] parent, int arrivee, double cout, int nbNoeudsTraites) {
+        List<String> noeuds = new ArrayList<>();
+        if (arrivee != -1 && cout != Double.MAX_VALUE) {
+            for (int u = arrivee; u != -1; u = parent[u]) {
+                noeuds.add(g.nom(u));
+            }
+            Collections.reverse(noeuds);
+        }
+        return new Chemin(noeuds, cout, nbNoeudsTraites);
+    }
+
+    /**
+     * Indique si un chemin a été trouvé
+     * @return vrai si l'arrivée est accessible depuis le départ
+     */
+    public boolean existe() {
+        return !this.noeuds.isEmpty();
+    }
+
+    /**
+     * Retourne les nœuds du chemin
+     * @return nœuds du départ à l'arrivée, liste vide s'il n'y a pas de chemin
+     */
+    public List<String> getNoeuds() {
+        return this.noeuds;
+    }
+
+    /**
+     * Retourne le coût du chemin
+     * @return coût, Double.MAX_VALUE s'il n'y a pas de chemin
+     */
+    public double getCout() {
+        return this.cout;
+    }
+
+    /**
+     * Retourne le nombre de nœuds traités (sortis de la file) pour trouver le chemin
+     * @return nombre de nœuds traités
+     */
+    public int getNbNoeudsTraites() {
+        return this.nbNoeudsTraites;
+    }
+
+    @Override
+    public String toString() {
+        return existe() ? this.noeuds + " (" + this.cout + ")" : "aucun chemin";
+    }
+}
@@ -0,0 +1,337 @@
+package graphe;
+
+import java.util.Arrays;
+
+/**
+ * Plus courts chemins depuis un nœud de départ, mis à jour après des changements de coût d'arcs
+ * sans tout recalculer.
+ *
+ * Après un lot de changements, reparer() ne recalcule que la partie de l'arbre des plus courts
+ * chemins concernée :
+ *  - si le coût d'un arc de l'arbre (u,v) a augmenté, le sous-arbre de v est invalidé puis chacun
+ *    de ses nœuds repart de son meilleur prédécesseur hors du sous-arbre ;
+ *  - si le coût d'un arc (u,v) a diminué et qu'il raccourcit le chemin vers v, v est amélioré ;
+ *  - un Dijkstra limité propage ensuite ces nouvelles valeurs, et s'arrête dès qu'elles
+ *    ne raccourcissent plus aucun chemin.
+ * Quand seuls quelques arcs changent, le travail est proportionnel à la taille des sous-arbres
+ * touchés et non à celle du graphe.
+ *
+ * Les distances sont celles de Dijkstra.resoudre() (sans pénalité de changement de ligne),
+ * les coûts doivent être positifs ou nuls. Entre deux réparations, seuls les coûts peuvent
+ * changer : les nœuds et les arcs du graphe doivent rester les mêmes.
+ *
+ * Exemple :
+ *  CheminsDynamiques chemins = new CheminsDynamiques(reseau.courante(), "Châtelet");
+ *  reseau.modifier().changerCout("Cité", "Saint-Michel", 180).publier();
+ *  chemins.arcModifie("Cité", "Saint-Michel");
+ *  chemins.reparer(reseau.courante());
+ */
+public class CheminsDynamiques {
+    // Attributs privés
+    private Graphe graphe; // Graphe utilisé lors de la dernière réparation
+    private final String depart;
+    private final GrapheInverse inverse; // Prédécesseurs de chaque nœud (seule la structure est utilisée)
+    private final double[] valeur;
+    private final int[] parent;
+    private final boolean[] invalide; // Nœuds du sous-arbre invalidé pendant une réparation
+    private int[] modifies = new int[16]; // Arcs modifiés depuis la dernière réparation : départ, arrivée, ...
+    private int nbModifies;
+
+    /**
+     * Constructeur calculant les plus courts chemins initiaux avec Dijkstra
+     * @param g graphe
+     * @param depart nom du nœud de départ
+     */
+    public CheminsDynamiques(Graphe g, String depart) {
+        this(g, depart, new Dijkstra().resoudre(g, depart));
+    }
+
+    /**
+     * Constructeur à partir de plus courts chemins déjà calculés
+     * @param g graphe sur lequel les valeurs ont été calculées
+     * @param depart nom du nœud de départ
+     * @param valeurs résultat de Dijkstra.resoudre() ou BellmanFord.resoudre() sur g depuis depart
+     */
+    public CheminsDynamiques(Graphe g, String depart, Valeurs valeurs) {
+        int n = g.nbNoeuds();
+        this.graphe = g;
+        this.depart = depart;
+        this.inverse = new GrapheInverse(g);
+        this.valeur = new double[n];
+        this.parent = new int[n];
+        this.invalide = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            String nom = g.nom(i);
+            this.valeur[i] = valeurs.getValeur(nom);
+            String p = valeurs.getParent(nom);
+            this.parent[i] = p == null ? -1 : g.indice(p);
+        }
+    }
+
+    /**
+     * Signale que le coût des arcs allant de depart à destination a changé
+     * @param depart nom du nœud de départ de l'arc
+     * @param destination nom du nœud d'arrivée de l'arc
+     */
+    public void arcModifie(String depart, String destination) {
+        int u = this.graphe.indice(depart);
+        int v = this.graphe.indice(destination);
+        if (u == -1 || v == -1) {
+            throw new IllegalArgumentException("Arc inexistant : " + depart + " -> " + destination);
+        }
+        if (this.nbModifies + 2 > this.modifies.length) {
+            this.modifies = Arrays.copyOf(this.modifies, this.modifies.length * 2);
+        }
+        this.modifies[this.nbModifies++] = u;
+        this.modifies[this.nbModifies++] = v;
+    }
+
+    /**
+     * Met à jour les plus courts chemins après les changements signalés par arcModifie()
+     * @param g graphe contenant les nouveaux coûts (mêmes nœuds et mêmes arcs qu'avant)
+     * @return nombre de nœuds dont la distance a été recalculée
+     */
+    public int reparer(Graphe g) {
+        if (g.nbNoeuds() != this.valeur.length) {
+            throw new IllegalArgumentException("Le graphe doit garder les mêmes nœuds");
+        }
+        this.graphe = g;
+        CoutMinimal coutMinimal = new CoutMinimal(g);
+        Tas tas = new Tas();
+
+        // Augmentations : invalidation des sous-arbres dont l'arc d'entrée ne suffit plus
+        int[] sousArbre = new int[16];
+        int taille = 0;
+        for (int k = 0; k < this.nbModifies; k += 2) {
+            int u = this.modifies[k];
+            int v = this.modifies[k + 1];
+            if (this.parent[v] == u && !this.invalide[v]
+                    && this.valeur[u] + coutMinimal.calculer(u, v) > this.valeur[v]) {
+                int debut = taille;
+                sousArbre = ajouter(sousArbre, taille++, v);
+                this.invalide[v] = true;
+                // Parcours des descendants de v, par les arcs de l'arbre
+                for (int i = debut; i < taille; i++) {
+                    int w = sousArbre[i];
+                    Descendants descendants = new Descendants(w, sousArbre, taille);
+                    g.pourChaqueSuivant(w, descendants);
+                    sousArbre = descendants.sousArbre;
+                    taille = descendants.taille;
+                }
+            }
+        }
+        for (int i = 0; i < taille; i++) {
+            this.valeur[sousArbre[i]] = Double.MAX_VALUE;
+            this.parent[sousArbre[i]] = -1;
+        }
+        // Chaque nœud invalidé repart de son meilleur prédécesseur encore valide
+        for (int i = 0; i < taille; i++) {
+            int w = sousArbre[i];
+            this.inverse.pourChaqueSuivant(w, (x, c, l) -> {
+                if (!this.invalide[x] && this.valeur[x] != Double.MAX_VALUE) {
+                    double d = this.valeur[x] + coutMinimal.calculer(x, w);
+                    if (d < this.valeur[w]) {
+                        this.valeur[w] = d;
+                        this.parent[w] = x;
+                    }
+                }
+            });
+            if (this.valeur[w] != Double.MAX_VALUE) {
+                tas.ajouter(this.valeur[w], w);
+            }
+        }
+        for (int i = 0; i < taille; i++) {
+            this.invalide[sousArbre[i]] = false;
+        }
+
+        // Diminutions : l'arc modifié peut raccourcir le chemin vers sa destination
+        for (int k = 0; k < this.nbModifies; k += 2) {
+            int u = this.modifies[k];
+            int v = this.modifies[k + 1];
+            if (this.valeur[u] != Double.MAX_VALUE) {
+                double d = this.valeur[u] + coutMinimal.calculer(u, v);
+                if (d < this.valeur[v]) {
+                    this.valeur[v] = d;
+                    this.parent[v] = u;
+                    tas.ajouter(d, v);
+                }
+            }
+        }
+        this.nbModifies = 0;
+
+        // Propagation des nouvelles valeurs (Dijkstra à partir des nœuds du tas)
+        int nbRecalcules = 0;
+        Relaxation relaxation = new Relaxation(this.valeur, this.parent, tas);
+        while (tas.taille > 0) {
+            double d = tas.cleMin();
+            int w = tas.retirerMin();
+            if (d > this.valeur[w]) {
+                continue; // Entrée périmée : w a été amélioré depuis
+            }
+            nbRecalcules++;
+            relaxation.u = w;
+            g.pourChaqueSuivant(w, relaxation);
+        }
+        return nbRecalcules;
+    }
+
+    /**
+     * Ajoute un élément à un tableau d'entiers, en l'agrandissant au besoin
+     */
+    private static int[] ajouter(int[] t, int taille, int x) {
+        if (taille == t.length) {
+            t = Arrays.copyOf(t, taille * 2);
+        }
+        t[taille] = x;
+        return t;
+    }
+
+    /**
+     * Accède à la distance actuelle d'un nœud
+     * @param nom nom du nœud
+     * @return distance depuis le départ, Double.MAX_VALUE si le nœud est inaccessible
+     */
+    public double getValeur(String nom) {
+        int i = this.graphe.indice(nom);
+        return i == -1 ? Double.MAX_VALUE : this.valeur[i];
+    }
+
+    /**
+     * Retourne les plus courts chemins actuels
+     * @return valeurs et parents de tous les nœuds, comme Dijkstra.resoudre()
+     */
+    public Valeurs getValeurs() {
+        return Valeurs.depuisTableaux(this.graphe, this.depart, this.valeur, this.parent);
+    }
+
+    /**
+     * Ajoute au sous-arbre les enfants de w dans l'arbre des plus courts chemins
+     */
+    private class Descendants implements VisiteurArc {
+        private final int w;
+        private int[] sousArbre;
+        private int taille;
+
+        private Descendants(int w, int[] sousArbre, int taille) {
+            this.w = w;
+            this.sousArbre = sousArbre;
+            this.taille = taille;
+        }
+
+        @Override
+        public void visiter(int x, double cout, int ligne) {
+            if (parent[x] == this.w && !invalide[x]) {
+                invalide[x] = true;
+                this.sousArbre = ajouter(this.sousArbre, this.taille++, x);
+            }
+        }
+    }
+
+    /**
+     * Calcul du coût actuel du meilleur arc entre deux nœuds
+     */
+    private static class CoutMinimal implements VisiteurArc {
+        private final Graphe g;
+        private int cible;
+        private double min;
+
+        private CoutMinimal(Graphe g) {
+            this.g = g;
+        }
+
+        /** Retourne le plus petit coût des arcs allant de u à v, Double.MAX_VALUE s'il n'y en a pas */
+        private double calculer(int u, int v) {
+            this.cible = v;
+            this.min = Double.MAX_VALUE;
+            this.g.pourChaqueSuivant(u, this);
+            return this.min;
+        }
+
+        @Override
+        public void visiter(int dest, double cout, int ligne) {
+            if (dest == this.cible && cout < this.min) {
+                this.min = cout;
+            }
+        }
+    }
+
+    /**
+     * Relâchement des arcs sortant du nœud u : les nœuds améliorés sont ajoutés au tas
+     */
+    private static class Relaxation implements VisiteurArc {
+        private final double[] valeur;
+        private final int[] parent;
+        private final Tas tas;
+        private int u;
+
+        private Relaxation(double[] valeur, int[] parent, Tas tas) {
+            this.valeur = valeur;
+            this.parent = parent;
+            this.tas = tas;
+        }
+
+        @Override
+        public void visiter(int v, double cout, int ligne) {
+            double d = this.valeur[this.u] + cout;
+            if (d < this.valeur[v]) {
+                this.valeur[v] = d;
+                this.parent[v] = this.u;
+                this.tas.ajouter(d, v);
+            }
+        }
+    }
+
+    /**
+     * Tas binaire de nœuds rangés par valeur croissante. Un nœud amélioré est ajouté
+     * une nouvelle fois : les anciennes entrées sont ignorées quand on les retire.
+     */
+    private static class Tas {
+        private double[] cles = new double[16];
+        private int[] noeuds = new int[16];
+        private int taille;
+
+        private void ajouter(double cle, int noeud) {
+            if (this.taille == this.cles.length) {
+                this.cles = Arrays.copyOf(this.cles, this.taille * 2);
+                this.noeuds = Arrays.copyOf(this.noeuds, this.taille * 2);
+            }
+            int i = this.taille++;
+            // Remontée de la nouvelle entrée
+            while (i > 0 && cle < this.cles[(i - 1) / 2]) {
+                this.cles[i] = this.cles[(i - 1) / 2];
+                this.noeuds[i] = this.noeuds[(i - 1) / 2];
+                i = (i - 1) / 2;
+            }
+            this.cles[i] = cle;
+            this.noeuds[i] = noeud;
+        }
+
+        private double cleMin() {
+            return this.cles[0];
+        }
+
+        private int retirerMin() {
+            int min = this.noeuds[0];
+            this.taille--;
+            double cle = this.cles[this.taille];
+            int noeud = this.noeuds[this.taille];
+            // Descente de la dernière entrée depuis la racine
+            int i = 0;
+            while (2 * i + 1 < this.taille) {
+                int f = 2 * i + 1;
+                if (f + 1 < this.taille && this.cles[f + 1] < this.cles[f]) {
+                    f++;
+                }
+                if (cle <= this.cles[f]) {
+                    break;
+                }
+                this.cles[i] = this.cles[f];
+                this.noeuds[i] = this.noeuds[f];
+                i = f;
+            }
+            this.cles[i] = cle;
+            this.noeuds[i] = noeud;
+            return min;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import graphe.Valeurs;
 
 import java.io.BufferedReader;
 import java.io.FileReader;
+import java.util.Objects;
 
 /**
  * Classe utilitaire permettant de comparer les algorithmes de Bellman-Ford
@@ -14,7 +15,7 @@ import java.io.FileReader;
  *
  * Le programme :
  * Lit le graphe à partir d’un fichier contenant les arcs (origine, destination, poids)
- * Exécute Bellman-Ford et Dijkstra à partir d’un sommet de départ
+ * Exécute Bellman-Ford et Dijkstra (avec et sans tas) à partir d’un sommet de départ
  * Compare les distances et les parents calculés par chaque algorithme
  * Affiche les temps d'exécution et un tableau comparatif des résultats
  *
@@ -61,6 +62,12 @@ public class ComparaisonAlgorithmes {
         Valeurs resDij = dijkstra.resoudre(graphe, depart);
         long finDij = System.nanoTime();
 
+        // Résolution par Dijkstra avec un tas
+        DijkstraTas dijkstraTas = new DijkstraTas();
+        long debutTas = System.nanoTime();
+        Valeurs resTas = dijkstraTas.resoudre(graphe, depart);
+        long finTas = System.nanoTime();
+
         // Comparaison des résultats
         boolean identiques = true;
         for (String n : graphe.listeNoeuds()) {
@@ -69,11 +76,13 @@ public class ComparaisonAlgorithmes {
             String p1 = resBF.getParent(n), p2 = resDij.getParent(n);
             if (Math.abs(distBF - distDij) > 0.001) identiques = false;
             if ((p1 == null && p2 != null) || (p1 != null && !p1.equals(p2))) identiques = false;
+            if (distDij != resTas.getValeur(n) || !Objects.equals(p2, resTas.getParent(n))) identiques = false;
         }
 
         // Affichage des temps
         System.out.printf("Temps Bellman-Ford : %.4f ms\n", (finBF - debutBF) / 1e6);
         System.out.printf("Temps Dijkstra     : %.4f ms\n", (finDij - debutDij) / 1e6);
+        System.out.printf("Temps Dijkstra tas : %.4f ms\n", (finTas - debutTas) / 1e6);
         System.out.println("Résultats identiques ? " + (identiques ? "OUI" : "NON"));
 
         // Affichage détaillé des résultats
@@ -0,0 +1,308 @@
+package graphe;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Index des composantes fortement connexes d'un graphe, pour savoir immédiatement
+ * si un nœud est accessible depuis un autre.
+ *
+ * Les composantes sont calculées par l'algorithme de Tarjan, en version itérative pour ne pas
+ * dépasser la taille de la pile d'appels sur les grands graphes. Tarjan numérote les composantes
+ * dans l'ordre topologique inverse du graphe des composantes (graphe condensé) : un arc va
+ * toujours d'une composante vers une composante de numéro inférieur ou égal.
+ *
+ * accessible(u, v) répond alors en temps constant dans la plupart des cas :
+ *  - même composante : vrai ;
+ *  - composantes faiblement connexes différentes, ou composante de v de numéro supérieur : faux ;
+ *  - sinon, on consulte l'ensemble des composantes accessibles, précalculé si le graphe condensé
+ *    a au plus LIMITE_FERMETURE composantes (limite réglable à la construction), ou on parcourt
+ *    le graphe condensé.
+ *
+ * L'index correspond au graphe au moment de sa construction : il faut le recalculer
+ * pour chaque nouvelle version du graphe.
+ */
+public class ComposantesFortementConnexes {
+    /** Nombre maximal de composantes pour lequel l'accessibilité est précalculée (LIMITE² bits) */
+    public static final int LIMITE_FERMETURE = 4096;
+
+    // Attributs privés
+    private final Graphe graphe;
+    private final int[] composante; // Numéro de composante de chaque nœud
+    private final int[] taille; // Nombre de nœuds de chaque composante
+    private final int nbComposantes;
+    private final int[] debutCondense; // Graphe condensé au format CSR (sans arcs multiples ni boucles)
+    private final int[] suivantsCondense;
+    private final int[] faible; // Numéro de composante faiblement connexe de chaque composante
+    private final BitSet[] fermeture; // Composantes accessibles depuis chaque composante, null si trop grand
+
+    /**
+     * Constructeur calculant l'index d'un graphe
+     * @param g graphe
+     */
+    public ComposantesFortementConnexes(Graphe g) {
+        this(g, LIMITE_FERMETURE);
+    }
+
+    /**
+     * Constructeur calculant l'index d'un graphe, avec une limite de précalcul donnée
+     * @param g graphe
+     * @param limiteFermeture nombre maximal de composantes pour lequel l'accessibilité est précalculée
+     *                        (0 pour toujours parcourir le graphe condensé)
+     */
+    public ComposantesFortementConnexes(Graphe g, int limiteFermeture) {
+        this.graphe = g;
+        int n = g.nbNoeuds();
+
+        // Copie des successeurs au format CSR, pour pouvoir reprendre le parcours d'un nœud
+        int[] debut = new int[n + 1];
+        for (int u = 0; u < n; u++) {
+            final int source = u;
+            g.pourChaqueSuivant(u, (v, c, l) -> debut[source + 1]++);
+            debut[u + 1] += debut[u];
+        }
+        int[] suivants = new int[debut[n]];
+        for (int u = 0; u < n; u++) {
+            int[] k = {debut[u]};
+            g.pourChaqueSuivant(u, (v, c, l) -> suivants[k[0]++] = v);
+        }
+
+        this.composante = new int[n];
+        this.nbComposantes = tarjan(debut, suivants, this.composante);
+        this.taille = new int[this.nbComposantes];
+        for (int u = 0; u < n; u++) {
+            this.taille[this.composante[u]]++;
+        }
+
+        // Graphe condensé : un arc par couple de composantes reliées
+        int[] membresDebut = new int[this.nbComposantes + 1];
+        for (int c = 0; c < this.nbComposantes; c++) {
+            membresDebut[c + 1] = membresDebut[c] + this.taille[c];
+        }
+        int[] membres = new int[n];
+        int[] remplissage = Arrays.copyOf(membresDebut, this.nbComposantes);
+        for (int u = 0; u < n; u++) {
+            membres[remplissage[this.composante[u]]++] = u;
+        }
+        this.debutCondense = new int[this.nbComposantes + 1];
+        int[] arcsCondenses = new int[16];
+        int nbArcsCondenses = 0;
+        int[] dernierAjout = new int[this.nbComposantes]; // Dernière composante source reliée à chaque composante, + 1
+        for (int c = 0; c < this.nbComposantes; c++) {
+            for (int i = membresDebut[c]; i < membresDebut[c + 1]; i++) {
+                int u = membres[i];
+                for (int k = debut[u]; k < debut[u + 1]; k++) {
+                    int d = this.composante[suivants[k]];
+                    if (d != c && dernierAjout[d] != c + 1) {
+                        dernierAjout[d] = c + 1;
+                        if (nbArcsCondenses == arcsCondenses.length) {
+                            arcsCondenses = Arrays.copyOf(arcsCondenses, nbArcsCondenses * 2);
+                        }
+                        arcsCondenses[nbArcsCondenses++] = d;
+                    }
+                }
+            }
+            this.debutCondense[c + 1] = nbArcsCondenses;
+        }
+        this.suivantsCondense = Arrays.copyOf(arcsCondenses, nbArcsCondenses);
+
+        // Composantes faiblement connexes (union-find sur le graphe condensé)
+        int[] representant = new int[this.nbComposantes];
+        for (int c = 0; c < this.nbComposantes; c++) {
+            representant[c] = c;
+        }
+        for (int c = 0; c < this.nbComposantes; c++) {
+            for (int k = this.debutCondense[c]; k < this.debutCondense[c + 1]; k++) {
+                int a = trouver(representant, c);
+                int b = trouver(representant, this.suivantsCondense[k]);
+                representant[Math.max(a, b)] = Math.min(a, b);
+            }
+        }
+        this.faible = new int[this.nbComposantes];
+        for (int c = 0; c < this.nbComposantes; c++) {
+            this.faible[c] = trouver(representant, c);
+        }
+
+        // Fermeture transitive, des composantes puits (petits numéros) vers les sources
+        if (this.nbComposantes <= limiteFermeture) {
+            this.fermeture = new BitSet[this.nbComposantes];
+            for (int c = 0; c < this.nbComposantes; c++) {
+                this.fermeture[c] = new BitSet(c + 1);
+                this.fermeture[c].set(c);
+                for (int k = this.debutCondense[c]; k < this.debutCondense[c + 1]; k++) {
+                    this.fermeture[c].or(this.fermeture[this.suivantsCondense[k]]);
+                }
+            }
+        } else {
+            this.fermeture = null;
+        }
+    }
+
+    /**
+     * Algorithme de Tarjan itératif
+     * @param debut premier successeur de chaque nœud
+     * @param suivants successeurs de tous les nœuds
+     * @param composante numéro de composante de chaque nœud, rempli par la méthode
+     * @return nombre de composantes
+     */
+    private static int tarjan(int[] debut, int[] suivants, int[] composante) {
+        int n = composante.length;
+        int[] ordre = new int[n]; // Numéro de visite de chaque nœud, -1 si non visité
+        int[] bas = new int[n]; // Plus petit numéro de visite accessible depuis le sous-arbre du nœud
+        int[] prochain = new int[n]; // Prochain successeur à examiner
+        int[] pile = new int[n]; // Pile de Tarjan
+        boolean[] surPile = new boolean[n];
+        int[] appels = new int[n]; // Pile des appels récursifs simulés
+        Arrays.fill(ordre, -1);
+        int compteur = 0;
+        int sommet = 0;
+        int nbComposantes = 0;
+
+        for (int s = 0; s < n; s++) {
+            if (ordre[s] != -1) {
+                continue;
+            }
+            int profondeur = 0;
+            ordre[s] = bas[s] = compteur++;
+            prochain[s] = debut[s];
+            pile[sommet++] = s;
+            surPile[s] = true;
+            appels[profondeur++] = s;
+            while (profondeur > 0) {
+                int u = appels[profondeur - 1];
+                if (prochain[u] < debut[u + 1]) {
+                    int v = suivants[prochain[u]++];
+                    if (ordre[v] == -1) {
+                        // « Appel récursif » sur v
+                        ordre[v] = bas[v] = compteur++;
+                        prochain[v] = debut[v];
+                        pile[sommet++] = v;
+                        surPile[v] = true;
+                        appels[profondeur++] = v;
+                    } else if (surPile[v]) {
+                        bas[u] = Math.min(bas[u], ordre[v]);
+                    }
+                } else {
+                    // Fin de l'« appel » sur u
+                    profondeur--;
+                    if (bas[u] == ordre[u]) {
+                        // u est la racine d'une composante : on dépile ses nœuds
+                        int w;
+                        do {
+                            w = pile[--sommet];
+                            surPile[w] = false;
+                            composante[w] = nbComposantes;
+                        } while (w != u);
+                        nbComposantes++;
+                    }
+                    if (profondeur > 0) {
+                        int parent = appels[profondeur - 1];
+                        bas[parent] = Math.min(bas[parent], bas[u]);
+                    }
+                }
+            }
+        }
+        return nbComposantes;
+    }
+
+    /**
+     * Retourne le représentant d'une classe de l'union-find, en compressant le chemin
+     */
+    private static int trouver(int[] representant, int c) {
+        while (representant[c] != c) {
+            representant[c] = representant[representant[c]];
+            c = representant[c];
+        }
+        return c;
+    }
+
+    /**
+     * Retourne le nombre de composantes fortement connexes
+     * @return nombre de composantes
+     */
+    public int nbComposantes() {
+        return this.nbComposantes;
+    }
+
+    /**
+     * Retourne la composante d'un nœud
+     * @param u indice du nœud
+     * @return numéro de la composante (les arcs vont vers des numéros inférieurs ou égaux)
+     */
+    public int composante(int u) {
+        return this.composante[u];
+    }
+
+    /**
+     * Retourne le nombre de nœuds d'une composante
+     * @param c numéro de la composante
+     * @return nombre de nœuds
+     */
+    public int taille(int c) {
+        return this.taille[c];
+    }
+
+    /**
+     * Indique si deux nœuds sont dans la même composante faiblement connexe
+     * (reliés par une chaîne d'arcs, sans tenir compte de leur sens)
+     * @param u indice du premier nœud
+     * @param v indice du second nœud
+     * @return vrai si les nœuds sont faiblement connectés
+     */
+    public boolean memeComposanteFaible(int u, int v) {
+        return this.faible[this.composante[u]] == this.faible[this.composante[v]];
+    }
+
+    /**
+     * Indique s'il existe un chemin d'un nœud à un autre
+     * @param depart nom du nœud de départ
+     * @param arrivee nom du nœud d'arrivée
+     * @return vrai si arrivee est accessible depuis depart, faux si l'un des nœuds n'existe pas
+     */
+    public boolean accessible(String depart, String arrivee) {
+        int u = this.graphe.indice(depart);
+        int v = this.graphe.indice(arrivee);
+        return u != -1 && v != -1 && accessible(u, v);
+    }
+
+    /**
+     * Indique s'il existe un chemin d'un nœud à un autre
+     * @param u indice du nœud de départ
+     * @param v indice du nœud d'arrivée
+     * @return vrai si v est accessible depuis u
+     */
+    public boolean accessible(int u, int v) {
+        int cu = this.composante[u];
+        int cv = this.composante[v];
+        if (cu == cv) {
+            return true;
+        }
+        if (cv > cu || this.faible[cu] != this.faible[cv]) {
+            return false;
+        }
+        if (this.fermeture != null) {
+            return this.fermeture[cu].get(cv);
+        }
+
+        // Parcours en profondeur du graphe condensé, limité aux composantes de numéro >= cv
+        boolean[] vu = new boolean[cu - cv + 1];
+        int[] pile = new int[cu - cv + 1];
+        int sommet = 0;
+        pile[sommet++] = cu;
+        vu[cu - cv] = true;
+        while (sommet > 0) {
+            int c = pile[--sommet];
+            for (int k = this.debutCondense[c]; k < this.debutCondense[c + 1]; k++) {
+                int d = this.suivantsCondense[k];
+                if (d == cv) {
+                    return true;
+                }
+                if (d > cv && !vu[d - cv]) {
+                    vu[d - cv] = true;
+                    pile[sommet++] = d;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,312 @@
+package graphe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Construction d'un GrapheCSR à partir d'un grand nombre d'arcs, en utilisant tous les processeurs.
+ *
+ * Les arcs sont d'abord simplement accumulés (par tableaux entiers ou par flux), puis construire() :
+ *  1. découpe les arcs en tranches qui numérotent en parallèle leurs propres noms de nœuds et de lignes ;
+ *  2. attribue un indice à chaque nom en fusionnant les tranches dans l'ordre ;
+ *  3. traduit en parallèle les numéros de chaque tranche en indices ;
+ *  4. range les arcs par nœud de départ avec un tri par dénombrement, en une passe.
+ *
+ * Le résultat ne dépend pas du nombre de threads : c'est le même graphe que celui obtenu en ajoutant
+ * les arcs un par un à un GrapheListe puis en le figeant. Les nœuds ajoutés avec ajouterNoeud()
+ * viennent en premier, dans l'ordre d'ajout, puis les autres dans l'ordre de leur première apparition
+ * dans les arcs ; les arcs de chaque nœud gardent leur ordre d'ajout.
+ *
+ * Exemple :
+ *  GrapheCSR g = new ConstructeurGraphe().ajouterArcs(departs, destinations, couts, lignes).construire();
+ */
+public class ConstructeurGraphe {
+    /** Nombre minimal d'arcs par tranche numérotée en parallèle */
+    static final int TAILLE_TRANCHE = 1 << 16;
+
+    // Attributs privés
+    private final List<String> noeuds = new ArrayList<>(); // Nœuds ajoutés explicitement
+    private String[] departs = new String[16];
+    private String[] destinations = new String[16];
+    private double[] couts = new double[16];
+    private String[] lignes = new String[16];
+    private int nbArcs;
+
+    /**
+     * Connexion entre deux nœuds, pour ajouter des arcs à partir d'un flux
+     */
+    public static class Connexion {
+        private final String depart;
+        private final String destination;
+        private final double cout;
+        private final String ligne;
+
+        /**
+         * Constructeur
+         * @param depart nom du nœud de départ
+         * @param destination nom du nœud d'arrivée
+         * @param cout coût de l'arc
+         * @param ligne nom de la ligne (peut être null)
+         */
+        public Connexion(String depart, String destination, double cout, String ligne) {
+            this.depart = depart;
+            this.destination = destination;
+            this.cout = cout;
+            this.ligne = ligne;
+        }
+
+        /**
+         * Retourne le nom du nœud de départ
+         * @return nom du nœud de départ
+         */
+        public String getDepart() {
+            return this.depart;
+        }
+
+        /**
+         * Retourne le nom du nœud d'arrivée
+         * @return nom du nœud d'arrivée
+         */
+        public String getDestination() {
+            return this.destination;
+        }
+
+        /**
+         * Retourne le coût de l'arc
+         * @return coût de l'arc
+         */
+        public double getCout() {
+            return this.cout;
+        }
+
+        /**
+         * Retourne la ligne de l'arc
+         * @return nom de la ligne, ou null si l'arc n'a pas de ligne
+         */
+        public String getLigne() {
+            return this.ligne;
+        }
+    }
+
+    /**
+     * Ajoute un nœud, même s'il n'a aucun arc
+     * @param n nom du nœud
+     * @return ce constructeur
+     */
+    public ConstructeurGraphe ajouterNoeud(String n) {
+        verifierNom(n);
+        this.noeuds.add(n);
+        return this;
+    }
+
+    /**
+     * Ajoute un arc
+     * @param depart nom du nœud de départ
+     * @param destination nom du nœud d'arrivée
+     * @param cout coût de l'arc
+     * @param ligne nom de la ligne (peut être null)
+     * @return ce constructeur
+     */
+    public ConstructeurGraphe ajouterArc(String depart, String destination, double cout, String ligne) {
+        verifierNom(depart);
+        verifierNom(destination);
+        reserver(1);
+        this.departs[this.nbArcs] = depart;
+        this.destinations[this.nbArcs] = destination;
+        this.couts[this.nbArcs] = cout;
+        this.lignes[this.nbArcs] = ligne;
+        this.nbArcs++;
+        return this;
+    }
+
+    /**
+     * Ajoute des arcs donnés par des tableaux parallèles : l'arc k va de departs[k] à destinations[k]
+     * @param departs noms des nœuds de départ
+     * @param destinations noms des nœuds d'arrivée
+     * @param couts coûts des arcs
+     * @param lignes noms des lignes (null si aucun arc n'a de ligne)
+     * @return ce constructeur
+     */
+    public ConstructeurGraphe ajouterArcs(String[] departs, String[] destinations, double[] couts, String[] lignes) {
+        int m = departs.length;
+        if (destinations.length != m || couts.length != m || (lignes != null && lignes.length != m)) {
+            throw new IllegalArgumentException("Les tableaux d'arcs doivent avoir la même taille");
+        }
+        for (int k = 0; k < m; k++) {
+            verifierNom(departs[k]);
+            verifierNom(destinations[k]);
+        }
+        reserver(m);
+        System.arraycopy(departs, 0, this.departs, this.nbArcs, m);
+        System.arraycopy(destinations, 0, this.destinations, this.nbArcs, m);
+        System.arraycopy(couts, 0, this.couts, this.nbArcs, m);
+        if (lignes != null) {
+            System.arraycopy(lignes, 0, this.lignes, this.nbArcs, m);
+        }
+        this.nbArcs += m;
+        return this;
+    }
+
+    /**
+     * Ajoute les arcs d'un flux de connexions, dans l'ordre du flux
+     * @param connexions flux de connexions
+     * @return ce constructeur
+     */
+    public ConstructeurGraphe ajouterArcs(Stream<Connexion> connexions) {
+        connexions.forEachOrdered(c -> ajouterArc(c.getDepart(), c.getDestination(), c.getCout(), c.getLigne()));
+        return this;
+    }
+
+    /**
+     * Retourne le nombre d'arcs ajoutés
+     * @return nombre d'arcs
+     */
+    public int nbArcs() {
+        return this.nbArcs;
+    }
+
+    /**
+     * Vérifie qu'un nom de nœud est défini
+     */
+    private static void verifierNom(String n) {
+        if (n == null) {
+            throw new IllegalArgumentException("Le nom d'un nœud ne peut pas être null");
+        }
+    }
+
+    /**
+     * Agrandit les tableaux d'arcs pour pouvoir en ajouter nb
+     */
+    private void reserver(int nb) {
+        if (this.nbArcs + nb > this.departs.length) {
+            int capacite = Math.max(this.departs.length * 2, this.nbArcs + nb);
+            this.departs = Arrays.copyOf(this.departs, capacite);
+            this.destinations = Arrays.copyOf(this.destinations, capacite);
+            this.couts = Arrays.copyOf(this.couts, capacite);
+            this.lignes = Arrays.copyOf(this.lignes, capacite);
+        }
+    }
+
+    /**
+     * Construit le graphe
+     * @return graphe au format CSR contenant tous les nœuds et arcs ajoutés
+     */
+    public GrapheCSR construire() {
+        int m = this.nbArcs;
+
+        // 1. Chaque tranche d'arcs numérote en parallèle ses propres noms, dans l'ordre de première apparition
+        int nbTranches = (int) Math.min((m + TAILLE_TRANCHE - 1) / TAILLE_TRANCHE,
+                                        4L * Runtime.getRuntime().availableProcessors());
+        Tranche[] tranches = new Tranche[nbTranches];
+        IntStream.range(0, nbTranches).parallel()
+                 .forEach(t -> tranches[t] = new Tranche((int) ((long) m * t / nbTranches),
+                                                         (int) ((long) m * (t + 1) / nbTranches)));
+
+        // 2. Attribution des indices en parcourant les tranches dans l'ordre : le résultat
+        //    ne dépend ni du nombre de tranches ni de l'ordre dans lequel les threads les ont traitées
+        Map<String, Integer> identifiants = new HashMap<>();
+        TableNoms table = new TableNoms();
+        List<String> nomsLignes = new ArrayList<>();
+        for (String n : this.noeuds) {
+            table.ajouter(n);
+        }
+        for (Tranche tranche : tranches) {
+            for (int i = 0; i < tranche.noeuds.size(); i++) {
+                tranche.indiceGlobal[i] = table.ajouter(tranche.noeuds.get(i)); // Indice existant si déjà vu
+            }
+            for (int i = 0; i < tranche.lignes.size(); i++) {
+                String l = tranche.lignes.get(i);
+                Integer id = identifiants.putIfAbsent(l, identifiants.size());
+                if (id == null) {
+                    id = nomsLignes.size();
+                    nomsLignes.add(l);
+                }
+                tranche.idGlobal[i] = id;
+            }
+        }
+
+        // 3. Traduction des numéros locaux en indices, en parallèle
+        int n = table.taille();
+        int[] source = new int[m];
+        int[] arrivee = new int[m];
+        int[] idLigne = new int[m];
+        IntStream.range(0, nbTranches).parallel().forEach(t -> {
+            Tranche tranche = tranches[t];
+            for (int e = tranche.debut; e < tranche.fin; e++) {
+                int k = e - tranche.debut;
+                source[e] = tranche.indiceGlobal[tranche.local[2 * k]];
+                arrivee[e] = tranche.indiceGlobal[tranche.local[2 * k + 1]];
+                idLigne[e] = tranche.ligneLocale[k] == -1 ? -1 : tranche.idGlobal[tranche.ligneLocale[k]];
+            }
+        });
+
+        // 4. Tri par dénombrement des arcs selon leur départ, qui garde l'ordre d'ajout
+        int[] debut = new int[n + 1];
+        for (int e = 0; e < m; e++) {
+            debut[source[e] + 1]++;
+        }
+        for (int u = 0; u < n; u++) {
+            debut[u + 1] += debut[u];
+        }
+        int[] remplissage = Arrays.copyOf(debut, n);
+        int[] dest = new int[m];
+        double[] cout = new double[m];
+        int[] ligne = new int[m];
+        for (int e = 0; e < m; e++) {
+            int k = remplissage[source[e]]++;
+            dest[k] = arrivee[e];
+            cout[k] = this.couts[e];
+            ligne[k] = idLigne[e];
+        }
+
+        return new GrapheCSR(table.compacter(), debut, dest, cout, ligne, nomsLignes.toArray(new String[0]));
+    }
+
+    /**
+     * Tranche d'arcs dont les noms de nœuds et de lignes sont numérotés localement,
+     * dans l'ordre de leur première apparition dans la tranche
+     */
+    private class Tranche {
+        private final int debut;
+        private final int fin;
+        private final int[] local; // Numéro local du départ et de la destination de chaque arc
+        private final int[] ligneLocale; // Numéro local de la ligne de chaque arc, -1 si aucune
+        private final List<String> noeuds = new ArrayList<>(); // Nom de chaque numéro local
+        private final List<String> lignes = new ArrayList<>();
+        private final int[] indiceGlobal; // Numéro local -> indice dans le graphe
+        private final int[] idGlobal; // Numéro local de ligne -> identifiant dans le graphe
+
+        private Tranche(int debut, int fin) {
+            this.debut = debut;
+            this.fin = fin;
+            this.local = new int[2 * (fin - debut)];
+            this.ligneLocale = new int[fin - debut];
+            Map<String, Integer> numeros = new HashMap<>();
+            Map<String, Integer> numerosLignes = new HashMap<>();
+            for (int e = debut; e < fin; e++) {
+                int k = e - debut;
+                this.local[2 * k] = numeroter(numeros, this.noeuds, departs[e]);
+                this.local[2 * k + 1] = numeroter(numeros, this.noeuds, destinations[e]);
+                String l = ConstructeurGraphe.this.lignes[e];
+                this.ligneLocale[k] = l == null ? -1 : numeroter(numerosLignes, this.lignes, l);
+            }
+            this.indiceGlobal = new int[this.noeuds.size()];
+            this.idGlobal = new int[this.lignes.size()];
+        }
+
+        /** Retourne le numéro local d'un nom, en le créant s'il est nouveau */
+        private int numeroter(Map<String, Integer> numeros, List<String> noms, String nom) {
+            Integer numero = numeros.putIfAbsent(nom, noms.size());
+            if (numero == null) {
+                noms.add(nom);
+                return noms.size() - 1;
+            }
+            return numero;
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package graphe;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * Classe implémentant l'algorithme de Dijkstra pour trouver le plus court chemin
@@ -51,86 +50,136 @@ public class Dijkstra {
      *   ainsi que le parent de chaque sommet sur le chemin le plus court
      */
     public Valeurs resoudre(Graphe g, String depart) {
-        // Initialisation de l'objet Valeurs pour stocker les résultats
-        Valeurs valeurs = new Valeurs();
-        
-        // Q : liste des nœuds à traiter
-        List<String> Q = new ArrayList<>();
+        // Les nœuds sont manipulés par leur indice : valeur, parent et Q
+        // sont des tableaux, aucun objet n'est créé pendant la boucle principale
+        int n = g.nbNoeuds();
+        double[] valeur = new double[n];
+        int[] parent = new int[n];
         
         // Pour chaque sommet v de G faire
-        List<String> noeuds = g.listeNoeuds();
-        for (String v : noeuds) {
-            // v.valeur <- Infini
-            valeurs.setValeur(v, Double.MAX_VALUE);
-            // v.parent <- Indéfini
-            valeurs.setParent(v, null);
-            // Q <- Q U {v} : ajouter le sommet v à la liste Q
-            Q.add(v);
-        }
+        // v.valeur <- Infini, v.parent <- Indéfini, Q <- Q U {v}
+        initialiser(g, depart, valeur, parent);
         
-        // A.valeur <- 0
-        valeurs.setValeur(depart, 0);
+        // Tant que Q est un ensemble non vide faire ...
+        parcourir(g, new Relaxation(valeur, parent, new boolean[n], null));
+        
+        return Valeurs.depuisTableaux(g, depart, valeur, parent);
+    }
+    
+    /**
+     * Initialise les distances à l'infini (sauf celle du départ, mise à 0) et les parents à indéfini.
+     * 
+     * Paramètres :
+     *  g : le graphe dans lequel effectuer la recherche
+     *  depart : le sommet de départ
+     *  valeur : distance de chaque nœud, à initialiser
+     *  parent : parent de chaque nœud, à initialiser
+     */
+    private void initialiser(Graphe g, String depart, double[] valeur, int[] parent) {
+        Arrays.fill(valeur, Double.MAX_VALUE);
+        Arrays.fill(parent, -1);
         
+        // A.valeur <- 0
+        int a = g.indice(depart);
+        if (a != -1) {
+            valeur[a] = 0;
+        }
+    }
+    
+    /**
+     * Boucle principale de l'algorithme : tant que Q est non vide, retire de Q
+     * le nœud de valeur minimale et relâche ses arcs sortants.
+     * 
+     * Paramètres :
+     *  g : le graphe dans lequel effectuer la recherche
+     *  relaxation : relâchement des arcs, contenant les tableaux de l'algorithme
+     */
+    private void parcourir(Graphe g, Relaxation relaxation) {
         // Tant que Q est un ensemble non vide faire
-        while (!Q.isEmpty()) {
+        for (int etape = 0; etape < g.nbNoeuds(); etape++) {
             // u <- un sommet de Q telle que u.valeur est minimal
-            String u = trouverNoeudValeurMinimale(Q, valeurs);
+            int u = trouverNoeudValeurMinimale(relaxation.valeur, relaxation.traite);
             
             // enlever le sommet u de la liste Q
-            Q.remove(u);
+            relaxation.traite[u] = true;
             
             // Pour chaque sommet v de Q tel que l'arc (u,v) existe faire
-            for (Arc arc : g.suivants(u)) {
-                String v = arc.getDest();
-                
-                // Vérifier que v est encore dans Q
-                if (Q.contains(v)) {
-                    // d <- u.valeur + poids(u,v)
-                    double d = valeurs.getValeur(u) + arc.getCout();
-                    
-                    // Si d < v.valeur
-                    if (d < valeurs.getValeur(v)) {
-                        // le chemin est plus interessant
-                        // v.valeur <- d
-                        valeurs.setValeur(v, d);
-                        // v.parent <- u
-                        valeurs.setParent(v, u);
+            relaxation.u = u;
+            g.pourChaqueSuivant(u, relaxation);
+        }
+    }
+    
+    /**
+     * Relâchement des arcs sortant du nœud u, appelé pour chaque arc (u,v) :
+     * si v est encore dans Q et que d = u.valeur + poids(u,v) est plus petit
+     * que v.valeur, alors v.valeur <- d et v.parent <- u.
+     * 
+     * Si le tableau des lignes est fourni, une pénalité est ajoutée à d
+     * lorsque la ligne de l'arc diffère de celle utilisée pour arriver en u.
+     */
+    private static class Relaxation implements VisiteurArc {
+        private final double[] valeur;
+        private final int[] parent;
+        private final boolean[] traite; // Nœuds déjà retirés de Q
+        private final int[] ligne; // Ligne utilisée pour atteindre chaque nœud, null sans pénalité
+        private int u; // Nœud dont on parcourt les arcs
+        
+        private Relaxation(double[] valeur, int[] parent, boolean[] traite, int[] ligne) {
+            this.valeur = valeur;
+            this.parent = parent;
+            this.traite = traite;
+            this.ligne = ligne;
+        }
+        
+        @Override
+        public void visiter(int v, double cout, int ligneArc) {
+            // Vérifier que v est encore dans Q
+            if (!this.traite[v]) {
+                // d <- u.valeur + poids(u,v)
+                double d = this.valeur[this.u] + cout;
+                if (this.ligne != null) {
+                    int ligneArrivee = this.ligne[this.u];
+                    if (ligneArrivee != -1 && ligneArc != -1 && ligneArrivee != ligneArc) {
+                        d += 10;
+                    }
+                }
+                // Si d < v.valeur, le chemin est plus interessant
+                if (d < this.valeur[v]) {
+                    this.valeur[v] = d;
+                    this.parent[v] = this.u;
+                    if (this.ligne != null) {
+                        this.ligne[v] = ligneArc;
                     }
                 }
             }
         }
-        
-        return valeurs;
     }
     
     /**
-     * Méthode utilitaire pour trouver dans la liste Q le nœud ayant la plus petite distance estimée.
+     * Méthode utilitaire pour trouver, parmi les nœuds non traités, celui ayant la plus petite distance estimée.
+     * En cas d'égalité, le nœud de plus petit indice est choisi.
      * 
      * Paramètres :
-     *  Q : liste des sommets encore à traiter
-     *  valeurs : objet contenant les distances actuelles pour chaque sommet
+     *  valeur : distance actuelle de chaque nœud
+     *  traite : indique pour chaque nœud s'il a déjà été retiré de Q
      * 
      * Retour :
-     *  le sommet de Q avec la valeur minimale
+     *  l'indice du nœud non traité de valeur minimale
      */
-    private String trouverNoeudValeurMinimale(List<String> Q, Valeurs valeurs) {
-        String noeudMin = Q.get(0);
-        double valeurMin = valeurs.getValeur(noeudMin);
-        
-        for (String noeud : Q) {
-            double valeur = valeurs.getValeur(noeud);
-            if (valeur < valeurMin) {
-                valeurMin = valeur;
-                noeudMin = noeud;
+    private int trouverNoeudValeurMinimale(double[] valeur, boolean[] traite) {
+        int noeudMin = -1;
+        for (int i = 0; i < valeur.length; i++) {
+            if (!traite[i] && (noeudMin == -1 || valeur[i] < valeur[noeudMin])) {
+                noeudMin = i;
             }
         }
-        
         return noeudMin;
     }
 
     /**
     * Variante de l'algorithme de Dijkstra prenant en compte une pénalité
     * lors des changements de ligne (modélisation de transitions avec surcoût, par exemple dans un réseau de transport).
+    * Les lignes sont comparées par leur identifiant entier.
     * 
     * Paramètres :
     *  g : le graphe contenant les arcs avec informations de ligne
@@ -140,51 +189,17 @@ public class Dijkstra {
     * un objet Valeurs contenant les distances, parents et lignes optimisées avec pénalité de changement de ligne
     */
     public Valeurs resoudre2(Graphe g, String depart) {
-        Valeurs valeurs = new Valeurs();
-        List<String> Q = new ArrayList<>();
-
-        List<String> noeuds = g.listeNoeuds();
-        for (String v : noeuds) {
-            valeurs.setValeur(v, Double.MAX_VALUE);
-            valeurs.setParent(v, null);
-            valeurs.setLigne(v, null);
-            Q.add(v);
-        }
-
-        valeurs.setValeur(depart, 0);
-        valeurs.setLigne(depart, null);
-
-        while (!Q.isEmpty()) {
-            // Trouver le nœud de valeur minimale dans Q
-            String u = trouverNoeudValeurMinimale(Q, valeurs);
-            Q.remove(u);
-
-            String ligneArrivee = valeurs.getLigne(u);
-
-            for (Arc arc : g.suivants(u)) {
-                String v = arc.getDest();
-
-                if (Q.contains(v)) {
-                    double coutArc = arc.getCout();
-                    String ligneArc = arc.getLigne();
+        int n = g.nbNoeuds();
+        double[] valeur = new double[n];
+        int[] parent = new int[n];
+        int[] ligne = new int[n];
 
-                    double penalite = 0;
-                    if (ligneArrivee != null && ligneArc != null && !ligneArrivee.equals(ligneArc)) {
-                        penalite = 10;
-                    }
-
-                    double d = valeurs.getValeur(u) + coutArc + penalite;
+        initialiser(g, depart, valeur, parent);
+        Arrays.fill(ligne, -1);
 
-                    if (d < valeurs.getValeur(v)) {
-                        valeurs.setValeur(v, d);
-                        valeurs.setParent(v, u);
-                        valeurs.setLigne(v, ligneArc);
-                    }
-                }
-            }
-        }
+        parcourir(g, new Relaxation(valeur, parent, new boolean[n], ligne));
 
-        return valeurs;
+        return Valeurs.depuisTableaux(g, depart, valeur, parent, ligne);
     }
 
-}
\ No newline at end of file
+}
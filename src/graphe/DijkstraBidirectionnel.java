@@ -0,0 +1,154 @@
+package graphe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Recherche de plus court chemin bidirectionnelle : une recherche de Dijkstra part du départ
+ * dans le graphe, une autre part de l'arrivée dans le graphe inverse, et on les fait avancer
+ * chacune à son tour jusqu'à ce qu'elles se rencontrent.
+ *
+ * Chaque fois qu'un arc relie un nœud traité d'un côté à un nœud déjà atteint de l'autre côté,
+ * on obtient un chemin complet ; mu est le coût du meilleur chemin ainsi trouvé. On peut s'arrêter
+ * dès que minAvant + minArriere >= mu, où minAvant et minArriere sont les plus petites valeurs
+ * des deux files : tout chemin qui reste à découvrir coûte au moins minAvant + minArriere.
+ *
+ * Chaque recherche ne va qu'à peu près à mi-distance : sur un réseau routier, on traite
+ * environ deux fois moins de nœuds qu'avec DijkstraTas.resoudre(g, depart, arrivee).
+ *
+ * Le graphe inverse est construit une fois pour toutes dans le constructeur : il faut créer
+ * un nouvel objet si le graphe change.
+ */
+public class DijkstraBidirectionnel {
+    // Attributs privés
+    private final Graphe graphe;
+    private final GrapheInverse inverse; // Arcs entrants de chaque nœud
+
+    /**
+     * Constructeur préparant les recherches sur un graphe
+     * @param g graphe (coûts positifs)
+     */
+    public DijkstraBidirectionnel(Graphe g) {
+        this.graphe = g;
+        this.inverse = new GrapheInverse(g);
+    }
+
+    /**
+     * Cherche le plus court chemin entre deux nœuds
+     * @param depart sommet de départ
+     * @param arrivee sommet d'arrivée
+     * @return chemin et coût (même coût que Dijkstra, le chemin peut différer en cas d'égalité)
+     */
+    public Chemin resoudre(String depart, String arrivee) {
+        int a = this.graphe.indice(depart);
+        int b = this.graphe.indice(arrivee);
+        if (a == -1 || b == -1) {
+            return new Chemin(new ArrayList<>(), Double.MAX_VALUE, 0);
+        }
+        if (a == b) {
+            return new Chemin(new ArrayList<>(List.of(depart)), 0, 1);
+        }
+
+        int n = this.graphe.nbNoeuds();
+        Rencontre rencontre = new Rencontre();
+        Recherche avant = new Recherche(n, a, rencontre, false);
+        Recherche arriere = new Recherche(n, b, rencontre, true);
+        avant.autre = arriere;
+        arriere.autre = avant;
+
+        int nbTraites = 0;
+        Recherche courante = avant;
+        while (!avant.file.estVide() && !arriere.file.estVide()
+               && avant.valeur[avant.file.min()] + arriere.valeur[arriere.file.min()] < rencontre.mu) {
+            courante.traiter(courante == avant ? this.graphe : this.inverse);
+            nbTraites++;
+            courante = courante.autre;
+        }
+
+        if (rencontre.mu == Double.MAX_VALUE) {
+            return new Chemin(new ArrayList<>(), Double.MAX_VALUE, nbTraites);
+        }
+        // Départ -> x par l'arbre de la recherche avant, puis y -> arrivée par celui de la recherche arrière
+        List<String> noeuds = new ArrayList<>();
+        for (int u = rencontre.x; u != -1; u = avant.parent[u]) {
+            noeuds.add(this.graphe.nom(u));
+        }
+        Collections.reverse(noeuds);
+        for (int u = rencontre.y; u != -1; u = arriere.parent[u]) {
+            noeuds.add(this.graphe.nom(u));
+        }
+        return new Chemin(noeuds, rencontre.mu, nbTraites);
+    }
+
+    /**
+     * Meilleur chemin complet trouvé : départ -> x par la recherche avant,
+     * arc (x,y), puis y -> arrivée par la recherche arrière
+     */
+    private static class Rencontre {
+        private double mu = Double.MAX_VALUE;
+        private int x = -1;
+        private int y = -1;
+    }
+
+    /**
+     * Une des deux recherches de Dijkstra. Pour la recherche arrière, parent[u] est
+     * le nœud suivant u sur le chemin vers l'arrivée.
+     */
+    private static class Recherche implements VisiteurArc {
+        private final double[] valeur;
+        private final int[] parent;
+        private final FilePriorite file;
+        private final BitSet traites = new BitSet();
+        private final Rencontre rencontre;
+        private final boolean arriere;
+        private Recherche autre;
+        private int u;
+
+        private Recherche(int n, int origine, Rencontre rencontre, boolean arriere) {
+            this.valeur = new double[n];
+            this.parent = new int[n];
+            this.file = new TasDAire(n, 4);
+            this.rencontre = rencontre;
+            this.arriere = arriere;
+            Arrays.fill(this.valeur, Double.MAX_VALUE);
+            Arrays.fill(this.parent, -1);
+            this.valeur[origine] = 0;
+            this.file.inserer(origine, 0);
+        }
+
+        /**
+         * Retire de la file le nœud de valeur minimale et relâche ses arcs
+         */
+        private void traiter(Graphe g) {
+            this.u = this.file.extraireMin();
+            this.traites.set(this.u);
+            g.pourChaqueSuivant(this.u, this);
+        }
+
+        @Override
+        public void visiter(int v, double cout, int ligne) {
+            if (this.traites.get(v)) {
+                return;
+            }
+            double d = this.valeur[this.u] + cout;
+            if (d < this.valeur[v]) {
+                this.valeur[v] = d;
+                this.parent[v] = this.u;
+                if (this.file.contient(v)) {
+                    this.file.diminuer(v, d);
+                } else {
+                    this.file.inserer(v, d);
+                }
+            }
+            // Chemin complet passant par l'arc (u,v) si l'autre recherche a déjà atteint v
+            if (this.autre.valeur[v] != Double.MAX_VALUE && d + this.autre.valeur[v] < this.rencontre.mu) {
+                this.rencontre.mu = d + this.autre.valeur[v];
+                this.rencontre.x = this.arriere ? v : this.u;
+                this.rencontre.y = this.arriere ? this.u : v;
+            }
+        }
+    }
+}
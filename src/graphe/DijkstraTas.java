@@ -0,0 +1,229 @@
+package graphe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Algorithme de Dijkstra utilisant une file de priorité pour choisir le prochain nœud.
+ *
+ * Dijkstra cherche le nœud de valeur minimale en parcourant tous les nœuds à chaque étape,
+ * soit O(n²) pour un calcul. Ici, seuls les nœuds atteints sont dans une FilePriorite,
+ * et un nœud amélioré voit sa priorité diminuée : O((n + m) log n) avec un tas.
+ *
+ * Les résultats (valeurs et parents) sont exactement ceux de Dijkstra, car la file
+ * départage les égalités par indice de nœud, comme trouverNoeudValeurMinimale().
+ *
+ * Quand on ne cherche que quelques destinations, resoudre(g, depart, arrivee) s'arrête
+ * dès qu'elles sont traitées et retourne directement le Chemin, sans construire de Valeurs.
+ *
+ * Exemples :
+ *  new DijkstraTas()                                // tas 4-aire
+ *  new DijkstraTas(n -> new TasDAire(n, 2))         // tas binaire
+ *  new DijkstraTas(TasAppariement::new)             // tas d'appariement
+ */
+public class DijkstraTas {
+    // Attributs privés
+    private final IntFunction<FilePriorite> fabrique; // Crée une file pour un nombre de nœuds donné
+
+    /**
+     * Constructeur utilisant un tas 4-aire
+     */
+    public DijkstraTas() {
+        this(n -> new TasDAire(n, 4));
+    }
+
+    /**
+     * Constructeur choisissant la file de priorité
+     * @param fabrique crée une file vide pouvant contenir les nœuds 0 à n-1
+     */
+    public DijkstraTas(IntFunction<FilePriorite> fabrique) {
+        this.fabrique = fabrique;
+    }
+
+    /**
+     * Résout le problème du plus court chemin à partir d'un sommet de départ
+     * @param g graphe (coûts positifs)
+     * @param depart sommet de départ
+     * @return distances et parents depuis le départ, identiques à Dijkstra.resoudre()
+     */
+    public Valeurs resoudre(Graphe g, String depart) {
+        Relaxation relaxation = new Relaxation(g.nbNoeuds(), false, this.fabrique);
+        parcourir(g, g.indice(depart), relaxation, null, 0);
+        return Valeurs.depuisTableaux(g, depart, relaxation.valeur, relaxation.parent);
+    }
+
+    /**
+     * Variante avec une pénalité de 10 à chaque changement de ligne
+     * @param g graphe (coûts positifs)
+     * @param depart sommet de départ
+     * @return distances, parents et lignes depuis le départ, identiques à Dijkstra.resoudre2()
+     */
+    public Valeurs resoudre2(Graphe g, String depart) {
+        Relaxation relaxation = new Relaxation(g.nbNoeuds(), true, this.fabrique);
+        parcourir(g, g.indice(depart), relaxation, null, 0);
+        return Valeurs.depuisTableaux(g, depart, relaxation.valeur, relaxation.parent, relaxation.ligne);
+    }
+
+    /**
+     * Calcule la distance de chaque nœud depuis un départ, sans construire de Valeurs
+     * @param g graphe (coûts positifs)
+     * @param depart indice du départ
+     * @return distance de chaque nœud, Double.MAX_VALUE s'il est inaccessible
+     */
+    double[] distances(Graphe g, int depart) {
+        Relaxation relaxation = new Relaxation(g.nbNoeuds(), false, this.fabrique);
+        parcourir(g, depart, relaxation, null, 0);
+        return relaxation.valeur;
+    }
+
+    /**
+     * Cherche le plus court chemin entre deux nœuds, en s'arrêtant dès que l'arrivée est traitée :
+     * seuls les nœuds plus proches du départ que l'arrivée sont explorés
+     * @param g graphe (coûts positifs)
+     * @param depart sommet de départ
+     * @param arrivee sommet d'arrivée
+     * @return chemin et coût, identiques à ceux de resoudre(g, depart)
+     */
+    public Chemin resoudre(Graphe g, String depart, String arrivee) {
+        return resoudre(g, depart, List.of(arrivee)).get(0);
+    }
+
+    /**
+     * Cherche le plus court chemin entre deux nœuds avec une pénalité de 10 à chaque changement
+     * de ligne, en s'arrêtant dès que l'arrivée est traitée
+     * @param g graphe (coûts positifs)
+     * @param depart sommet de départ
+     * @param arrivee sommet d'arrivée
+     * @return chemin et coût, identiques à ceux de resoudre2(g, depart)
+     */
+    public Chemin resoudre2(Graphe g, String depart, String arrivee) {
+        return chercher(g, depart, List.of(arrivee), true).get(0);
+    }
+
+    /**
+     * Cherche les plus courts chemins d'un nœud vers plusieurs destinations,
+     * en s'arrêtant dès que toutes les destinations sont traitées
+     * @param g graphe (coûts positifs)
+     * @param depart sommet de départ
+     * @param arrivees sommets d'arrivée
+     * @return chemin vers chaque arrivée, dans l'ordre de arrivees
+     */
+    public List<Chemin> resoudre(Graphe g, String depart, List<String> arrivees) {
+        return chercher(g, depart, arrivees, false);
+    }
+
+    /**
+     * Recherche vers un ensemble de destinations, avec ou sans pénalité de changement de ligne
+     */
+    private List<Chemin> chercher(Graphe g, String depart, List<String> arrivees, boolean penalite) {
+        BitSet cibles = new BitSet();
+        for (String arrivee : arrivees) {
+            int v = g.indice(arrivee);
+            if (v != -1) {
+                cibles.set(v);
+            }
+        }
+        if (cibles.isEmpty()) {
+            // Aucune arrivée n'existe : aucun chemin, inutile de lancer la recherche
+            List<Chemin> chemins = new ArrayList<>(arrivees.size());
+            for (int i = 0; i < arrivees.size(); i++) {
+                chemins.add(new Chemin(new ArrayList<>(), Double.MAX_VALUE, 0));
+            }
+            return chemins;
+        }
+
+        Relaxation relaxation = new Relaxation(g.nbNoeuds(), penalite, this.fabrique);
+        int nbTraites = parcourir(g, g.indice(depart), relaxation, cibles, cibles.cardinality());
+
+        List<Chemin> chemins = new ArrayList<>(arrivees.size());
+        for (String arrivee : arrivees) {
+            int v = g.indice(arrivee);
+            double cout = v == -1 ? Double.MAX_VALUE : relaxation.valeur[v];
+            chemins.add(Chemin.depuisParents(g, relaxation.parent, v, cout, nbTraites));
+        }
+        return chemins;
+    }
+
+    /**
+     * Boucle principale : retire de la file le nœud de valeur minimale et relâche ses arcs,
+     * jusqu'à ce que la file soit vide ou que toutes les cibles soient traitées
+     * @param a indice du départ (-1 s'il n'existe pas)
+     * @param cibles nœuds dont on attend la distance, null pour traiter tous les nœuds accessibles
+     * @param nbCibles nombre de cibles
+     * @return nombre de nœuds traités
+     */
+    private int parcourir(Graphe g, int a, Relaxation relaxation, BitSet cibles, int nbCibles) {
+        if (a == -1) {
+            return 0;
+        }
+        int nbTraites = 0;
+        relaxation.valeur[a] = 0;
+        relaxation.file.inserer(a, 0);
+        while (!relaxation.file.estVide()) {
+            int u = relaxation.file.extraireMin();
+            relaxation.traites.set(u);
+            nbTraites++;
+            if (cibles != null && cibles.get(u) && --nbCibles == 0) {
+                // La valeur d'un nœud traité est définitive : inutile d'aller plus loin
+                break;
+            }
+            relaxation.u = u;
+            g.pourChaqueSuivant(u, relaxation);
+        }
+        return nbTraites;
+    }
+
+    /**
+     * Relâchement des arcs sortant du nœud u : un nœud amélioré entre dans la file,
+     * ou y voit sa priorité diminuée s'il y est déjà
+     */
+    private static class Relaxation implements VisiteurArc {
+        private final double[] valeur;
+        private final int[] parent;
+        private final int[] ligne; // Ligne utilisée pour atteindre chaque nœud, null sans pénalité
+        private final FilePriorite file;
+        private final BitSet traites = new BitSet(); // Nœuds déjà sortis de la file
+        private int u;
+
+        private Relaxation(int n, boolean penalite, IntFunction<FilePriorite> fabrique) {
+            this.valeur = new double[n];
+            this.parent = new int[n];
+            this.ligne = penalite ? new int[n] : null;
+            this.file = fabrique.apply(n);
+            Arrays.fill(this.valeur, Double.MAX_VALUE);
+            Arrays.fill(this.parent, -1);
+            if (penalite) {
+                Arrays.fill(this.ligne, -1);
+            }
+        }
+
+        @Override
+        public void visiter(int v, double cout, int ligneArc) {
+            if (this.traites.get(v)) {
+                return;
+            }
+            double d = this.valeur[this.u] + cout;
+            if (this.ligne != null) {
+                int ligneArrivee = this.ligne[this.u];
+                if (ligneArrivee != -1 && ligneArc != -1 && ligneArrivee != ligneArc) {
+                    d += 10;
+                }
+            }
+            if (d < this.valeur[v]) {
+                this.valeur[v] = d;
+                this.parent[v] = this.u;
+                if (this.ligne != null) {
+                    this.ligne[v] = ligneArc;
+                }
+                if (this.file.contient(v)) {
+                    this.file.diminuer(v, d);
+                } else {
+                    this.file.inserer(v, d);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package graphe;
+
+/**
+ * File de priorité indexée sur les entiers 0 à capacite-1 (les indices des nœuds d'un graphe),
+ * utilisée par DijkstraTas pour choisir le prochain nœud à traiter.
+ *
+ * Chaque élément est présent au plus une fois : quand on trouve un meilleur chemin vers un nœud
+ * déjà dans la file, on diminue sa priorité au lieu de l'ajouter une seconde fois.
+ *
+ * À priorité égale, le plus petit élément sort en premier : c'est la règle de Dijkstra, qui choisit
+ * le nœud de plus petit indice en cas d'égalité, ce qui donne exactement les mêmes parents.
+ */
+public interface FilePriorite {
+
+    /**
+     * Indique si la file est vide
+     * @return vrai s'il n'y a plus d'élément dans la file
+     */
+    public boolean estVide();
+
+    /**
+     * Indique si un élément est dans la file
+     * @param u élément
+     * @return vrai si u a été inséré et pas encore extrait
+     */
+    public boolean contient(int u);
+
+    /**
+     * Ajoute un élément absent de la file
+     * @param u élément
+     * @param priorite priorité de l'élément (les plus petites sortent en premier)
+     */
+    public void inserer(int u, double priorite);
+
+    /**
+     * Diminue la priorité d'un élément présent dans la file
+     * @param u élément
+     * @param priorite nouvelle priorité, inférieure ou égale à l'ancienne
+     */
+    public void diminuer(int u, double priorite);
+
+    /**
+     * Retourne l'élément de plus petite priorité, sans le retirer de la file
+     * @return élément qui sortira au prochain appel à extraireMin()
+     */
+    public int min();
+
+    /**
+     * Retire de la file l'élément de plus petite priorité
+     * @return élément retiré (le plus petit en cas d'égalité)
+     */
+    public int extraireMin();
+}
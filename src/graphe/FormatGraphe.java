@@ -0,0 +1,402 @@
+package graphe;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * Format binaire d'un graphe, lu directement en mémoire projetée par GrapheMappe
+ * ou chargé sur le tas avec lire().
+ *
+ * Le fichier commence par un en-tête de TAILLE_ENTETE octets :
+ *  MAGIQUE, VERSION, nbNoeuds, nbArcs, nbLignes, tailleTable (entiers sur 4 octets)
+ *  somme de contrôle CRC32 des 24 premiers octets de l'en-tête et de tout ce qui suit
+ *  l'en-tête (entier sur 8 octets)
+ * suivi des sections, toutes en petit-boutiste (little-endian) et dans cet ordre :
+ *  cout        : double[nbArcs]     coût de chaque arc
+ *  debut       : int[nbNoeuds + 1]  premier arc de chaque nœud (format CSR)
+ *  dest        : int[nbArcs]        indice de destination de chaque arc
+ *  ligne       : int[nbArcs]        identifiant de ligne de chaque arc (-1 si aucune)
+ *  table       : int[tailleTable]   table de hachage des noms (indice du nœud + 1, 0 si vide)
+ *  debutNoms   : int[nbNoeuds + 1]  position du nom de chaque nœud dans noms
+ *  debutLignes : int[nbLignes + 1]  position du nom de chaque ligne dans lignes
+ *  noms        : octets UTF-8 des noms des nœuds, mis bout à bout
+ *  lignes      : octets UTF-8 des noms des lignes, mis bout à bout
+ */
+public class FormatGraphe {
+    /** Valeur des 4 premiers octets d'un fichier de graphe ("GRPH") */
+    public static final int MAGIQUE = 0x47525048;
+    /** Version du format écrite par cette classe */
+    public static final int VERSION = 3;
+    /** Taille de l'en-tête en octets */
+    public static final int TAILLE_ENTETE = 32;
+    /** Nombre d'octets de l'en-tête couverts par la somme de contrôle (tout sauf la somme elle-même) */
+    static final int ENTETE_CONTROLE = 24;
+    /** Ordre des octets de toutes les sections */
+    public static final ByteOrder ORDRE = ByteOrder.LITTLE_ENDIAN;
+
+    /**
+     * Calcule le hachage FNV-1a d'une suite d'octets, utilisé pour la table des noms
+     * @param octets tableau contenant les octets
+     * @param debut position du premier octet
+     * @param fin position suivant le dernier octet
+     * @return valeur de hachage
+     */
+    static int hacher(byte[] octets, int debut, int fin) {
+        int h = 0x811c9dc5;
+        for (int i = debut; i < fin; i++) {
+            h ^= octets[i] & 0xff;
+            h *= 0x01000193;
+        }
+        return h;
+    }
+
+    /**
+     * Retourne la taille de la table de hachage des noms pour un nombre de nœuds donné :
+     * la plus petite puissance de 2 au moins égale au double du nombre de nœuds.
+     * @param nbNoeuds nombre de nœuds
+     * @return taille de la table
+     */
+    static int tailleTable(int nbNoeuds) {
+        int taille = 1;
+        while (taille < 2 * nbNoeuds) {
+            taille *= 2;
+        }
+        return taille;
+    }
+
+    /**
+     * Écrit un graphe dans un fichier au format binaire
+     * @param g graphe à écrire
+     * @param fichier chemin du fichier, écrasé s'il existe
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public static void ecrire(Graphe g, Path fichier) throws IOException {
+        int nbNoeuds = g.nbNoeuds();
+
+        // Copie des arcs au format CSR
+        Collecteur arcs = new Collecteur(nbNoeuds);
+        for (int u = 0; u < nbNoeuds; u++) {
+            g.pourChaqueSuivant(u, arcs);
+            arcs.debut[u + 1] = arcs.nbArcs;
+        }
+
+        // Noms des nœuds et table de hachage
+        byte[][] noms = new byte[nbNoeuds][];
+        int[] table = new int[tailleTable(nbNoeuds)];
+        for (int i = 0; i < nbNoeuds; i++) {
+            noms[i] = g.nom(i).getBytes(StandardCharsets.UTF_8);
+            int position = hacher(noms[i], 0, noms[i].length) & (table.length - 1);
+            while (table[position] != 0) {
+                position = (position + 1) & (table.length - 1);
+            }
+            table[position] = i + 1;
+        }
+
+        // Noms de toutes les lignes du graphe, même celles qu'aucun arc n'utilise
+        byte[][] lignes = new byte[Math.max(g.nbLignes(), arcs.ligneMax + 1)][];
+        for (int id = 0; id < lignes.length; id++) {
+            lignes[id] = g.nomLigne(id).getBytes(StandardCharsets.UTF_8);
+        }
+
+        try (FileChannel canal = FileChannel.open(fichier, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            // L'en-tête est écrit à la fin, une fois la somme de contrôle connue
+            ByteBuffer entete = ByteBuffer.allocate(TAILLE_ENTETE).order(ORDRE);
+            entete.putInt(MAGIQUE);
+            entete.putInt(VERSION);
+            entete.putInt(nbNoeuds);
+            entete.putInt(arcs.nbArcs);
+            entete.putInt(lignes.length);
+            entete.putInt(table.length);
+
+            canal.position(TAILLE_ENTETE);
+            Ecrivain sortie = new Ecrivain(canal);
+            sortie.controle.update(entete.array(), 0, ENTETE_CONTROLE);
+            for (int k = 0; k < arcs.nbArcs; k++) {
+                sortie.reel(arcs.cout[k]);
+            }
+            sortie.entiers(arcs.debut, nbNoeuds + 1);
+            sortie.entiers(arcs.dest, arcs.nbArcs);
+            sortie.entiers(arcs.ligne, arcs.nbArcs);
+            sortie.entiers(table, table.length);
+            sortie.positions(noms);
+            sortie.positions(lignes);
+            for (byte[] nom : noms) {
+                sortie.octets(nom);
+            }
+            for (byte[] ligne : lignes) {
+                sortie.octets(ligne);
+            }
+            sortie.vider();
+
+            entete.putLong(sortie.controle.getValue());
+            entete.flip();
+            canal.write(entete, 0);
+        }
+    }
+
+    /**
+     * Lit l'en-tête d'un fichier de graphe et vérifie qu'il est reconnu, et que les sections
+     * de taille fixe qu'il annonce tiennent dans le fichier
+     * @param entete tampon contenant les TAILLE_ENTETE premiers octets du fichier
+     * @param tailleFichier taille totale du fichier en octets
+     * @return version, nbNoeuds, nbArcs, nbLignes, tailleTable puis la somme de contrôle
+     * @throws IOException si le fichier n'est pas un graphe binaire de la version attendue,
+     *                     ou si les nombres de l'en-tête sont incohérents avec la taille du fichier
+     */
+    static long[] lireEntete(ByteBuffer entete, long tailleFichier) throws IOException {
+        entete.order(ORDRE);
+        if (entete.remaining() < TAILLE_ENTETE || entete.getInt() != MAGIQUE) {
+            throw new IOException("Ce fichier n'est pas un graphe binaire");
+        }
+        int version = entete.getInt();
+        if (version != VERSION) {
+            throw new IOException("Version de graphe binaire non supportée : " + version);
+        }
+        long[] valeurs = new long[6];
+        valeurs[0] = version;
+        for (int i = 1; i < 5; i++) {
+            valeurs[i] = entete.getInt();
+            if (valeurs[i] < 0) {
+                throw new IOException("En-tête de graphe binaire invalide");
+            }
+        }
+        valeurs[5] = entete.getLong();
+
+        // Les tailles sont calculées sur des long : pas de dépassement même avec un en-tête aberrant
+        if (TAILLE_ENTETE + tailleSections(valeurs) > tailleFichier) {
+            throw new IOException("En-tête de graphe binaire invalide : sections plus grandes que le fichier");
+        }
+        if (valeurs[4] != tailleTable((int) valeurs[1])) {
+            throw new IOException("En-tête de graphe binaire invalide : table des noms de taille " + valeurs[4]);
+        }
+        return valeurs;
+    }
+
+    /**
+     * Retourne la taille des sections de taille fixe (toutes sauf les octets des noms)
+     * @param entete valeurs retournées par lireEntete()
+     * @return nombre d'octets
+     */
+    static long tailleSections(long[] entete) {
+        long nbNoeuds = entete[1];
+        long nbArcs = entete[2];
+        return 8 * nbArcs + 4 * (nbNoeuds + 1) + 8 * nbArcs + 4 * entete[4]
+               + 4 * (nbNoeuds + 1) + 4 * (entete[3] + 1);
+    }
+
+    /**
+     * Vérifie que les sections de noms annoncées par les tables de positions remplissent
+     * exactement la fin du fichier
+     * @param finNoms position de fin des noms des nœuds (dernière case de debutNoms)
+     * @param finLignes position de fin des noms des lignes (dernière case de debutLignes)
+     * @param restant nombre d'octets du fichier après les sections de taille fixe
+     * @throws IOException si les positions sont négatives ou incohérentes avec la taille du fichier
+     */
+    static void verifierNoms(int finNoms, int finLignes, long restant) throws IOException {
+        if (finNoms < 0 || finLignes < 0 || (long) finNoms + finLignes != restant) {
+            throw new IOException("Graphe binaire corrompu : tables de noms incohérentes avec la taille du fichier");
+        }
+    }
+
+    /**
+     * Charge sur le tas un graphe écrit par ecrire(), en vérifiant sa somme de contrôle.
+     * Chaque section est lue d'un bloc puis convertie en tableau.
+     * @param fichier chemin du fichier
+     * @return graphe au format CSR
+     * @throws IOException en cas d'erreur de lecture, ou si le fichier est invalide ou corrompu
+     */
+    public static GrapheCSR lire(Path fichier) throws IOException {
+        try (FileChannel canal = FileChannel.open(fichier, StandardOpenOption.READ)) {
+            Lecteur entree = new Lecteur(canal);
+            ByteBuffer octetsEntete = entree.section(TAILLE_ENTETE, false);
+            long[] entete = lireEntete(octetsEntete, canal.size());
+            entree.controle.update(octetsEntete.array(), 0, ENTETE_CONTROLE);
+            int nbNoeuds = (int) entete[1];
+            int nbArcs = (int) entete[2];
+            int nbLignes = (int) entete[3];
+            int tailleTable = (int) entete[4];
+
+            double[] cout = new double[nbArcs];
+            entree.section(8L * nbArcs, true).asDoubleBuffer().get(cout);
+            int[] debut = entree.entiers(nbNoeuds + 1);
+            int[] dest = entree.entiers(nbArcs);
+            int[] ligne = entree.entiers(nbArcs);
+            entree.section(4L * tailleTable, true); // La table de hachage n'est pas utilisée sur le tas
+            int[] debutNoms = entree.entiers(nbNoeuds + 1);
+            int[] debutLignes = entree.entiers(nbLignes + 1);
+            verifierNoms(debutNoms[nbNoeuds], debutLignes[nbLignes], canal.size() - canal.position());
+            TableNoms noms = new TableNoms(entree.octets(debutNoms), debutNoms);
+            String[] lignes = entree.chaines(debutLignes);
+
+            if (entree.controle.getValue() != entete[5] || canal.position() != canal.size()) {
+                throw new IOException("Graphe binaire corrompu : somme de contrôle incorrecte");
+            }
+            if (debut[nbNoeuds] != nbArcs) {
+                throw new IOException("Graphe binaire corrompu : nombre d'arcs incohérent");
+            }
+            return new GrapheCSR(noms, debut, dest, cout, ligne, lignes);
+        }
+    }
+
+    /**
+     * Lecture section par section d'un canal, en mettant à jour la somme de contrôle
+     */
+    private static class Lecteur {
+        private final FileChannel canal;
+        private final CRC32 controle = new CRC32();
+
+        private Lecteur(FileChannel canal) {
+            this.canal = canal;
+        }
+
+        /** Lit les taille octets suivants du canal */
+        private ByteBuffer section(long taille, boolean controler) throws IOException {
+            if (taille < 0 || taille > Integer.MAX_VALUE || this.canal.position() + taille > this.canal.size()) {
+                throw new IOException("Fichier de graphe tronqué ou section trop grande");
+            }
+            ByteBuffer tampon = ByteBuffer.allocate((int) taille);
+            while (tampon.hasRemaining()) {
+                if (this.canal.read(tampon) < 0) {
+                    throw new IOException("Fichier de graphe tronqué");
+                }
+            }
+            tampon.flip();
+            if (controler) {
+                this.controle.update(tampon);
+                tampon.rewind();
+            }
+            return tampon.order(ORDRE);
+        }
+
+        private int[] entiers(int n) throws IOException {
+            int[] t = new int[n];
+            section(4L * n, true).asIntBuffer().get(t);
+            return t;
+        }
+
+        /** Lit les octets des chaînes UTF-8 dont les positions sont données */
+        private byte[] octets(int[] positions) throws IOException {
+            byte[] octets = section(positions[positions.length - 1], true).array();
+            for (int i = 0; i + 1 < positions.length; i++) {
+                if (positions[i] < 0 || positions[i] > positions[i + 1]) {
+                    throw new IOException("Graphe binaire corrompu : table de chaînes invalide");
+                }
+            }
+            return octets;
+        }
+
+        /** Lit et décode les chaînes UTF-8 dont les positions sont données */
+        private String[] chaines(int[] positions) throws IOException {
+            byte[] octets = octets(positions);
+            String[] res = new String[positions.length - 1];
+            for (int i = 0; i < res.length; i++) {
+                res[i] = new String(octets, positions[i], positions[i + 1] - positions[i], StandardCharsets.UTF_8);
+            }
+            return res;
+        }
+    }
+
+    /**
+     * Visiteur recopiant les arcs parcourus dans des tableaux au format CSR
+     */
+    private static class Collecteur implements VisiteurArc {
+        private final int[] debut;
+        private int[] dest = new int[16];
+        private double[] cout = new double[16];
+        private int[] ligne = new int[16];
+        private int nbArcs;
+        private int ligneMax = -1; // Plus grand identifiant de ligne rencontré
+
+        private Collecteur(int nbNoeuds) {
+            this.debut = new int[nbNoeuds + 1];
+        }
+
+        @Override
+        public void visiter(int d, double c, int l) {
+            if (this.nbArcs == this.dest.length) {
+                this.dest = Arrays.copyOf(this.dest, this.nbArcs * 2);
+                this.cout = Arrays.copyOf(this.cout, this.nbArcs * 2);
+                this.ligne = Arrays.copyOf(this.ligne, this.nbArcs * 2);
+            }
+            this.dest[this.nbArcs] = d;
+            this.cout[this.nbArcs] = c;
+            this.ligne[this.nbArcs] = l;
+            this.nbArcs++;
+            this.ligneMax = Math.max(this.ligneMax, l);
+        }
+    }
+
+    /**
+     * Écriture bufferisée de valeurs primitives dans un canal, dans l'ordre ORDRE
+     */
+    private static class Ecrivain {
+        private final FileChannel canal;
+        private final ByteBuffer tampon;
+        private final CRC32 controle = new CRC32(); // Somme de contrôle des octets écrits
+
+        private Ecrivain(FileChannel canal) {
+            this.canal = canal;
+            this.tampon = ByteBuffer.allocate(1 << 16).order(ORDRE);
+        }
+
+        private void place(int n) throws IOException {
+            if (this.tampon.remaining() < n) {
+                vider();
+            }
+        }
+
+        private void entier(int v) throws IOException {
+            place(4);
+            this.tampon.putInt(v);
+        }
+
+        private void reel(double v) throws IOException {
+            place(8);
+            this.tampon.putDouble(v);
+        }
+
+        private void entiers(int[] t, int n) throws IOException {
+            for (int i = 0; i < n; i++) {
+                entier(t[i]);
+            }
+        }
+
+        /** Écrit les positions de début de chaque chaîne, puis la position de fin */
+        private void positions(byte[][] chaines) throws IOException {
+            int position = 0;
+            entier(position);
+            for (byte[] chaine : chaines) {
+                position += chaine.length;
+                entier(position);
+            }
+        }
+
+        private void octets(byte[] t) throws IOException {
+            int i = 0;
+            while (i < t.length) {
+                place(1);
+                int n = Math.min(this.tampon.remaining(), t.length - i);
+                this.tampon.put(t, i, n);
+                i += n;
+            }
+        }
+
+        private void vider() throws IOException {
+            this.tampon.flip();
+            this.controle.update(this.tampon);
+            this.tampon.flip();
+            while (this.tampon.hasRemaining()) {
+                this.canal.write(this.tampon);
+            }
+            this.tampon.clear();
+        }
+    }
+}
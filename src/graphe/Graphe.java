@@ -3,6 +3,10 @@ import java.util.List;
 
 /**
  * Interface définissant le comportement d'un graphe
+ *
+ * Les nœuds sont aussi numérotés de 0 à nbNoeuds()-1, dans l'ordre de listeNoeuds().
+ * Les méthodes utilisant ces indices permettent de parcourir le graphe
+ * sans manipuler de chaînes de caractères ni créer d'objets.
  */
 public interface Graphe {
     /**
@@ -17,4 +21,44 @@ public interface Graphe {
      * @return liste des arcs sortant du nœud n
      */
     public List<Arc> suivants(String n);
-}
\ No newline at end of file
+
+    /**
+     * Retourne le nombre de nœuds du graphe
+     * @return nombre de nœuds
+     */
+    public int nbNoeuds();
+
+    /**
+     * Retourne l'indice d'un nœud
+     * @param n nom du nœud
+     * @return indice du nœud, -1 si le nœud n'existe pas
+     */
+    public int indice(String n);
+
+    /**
+     * Retourne le nom du nœud d'indice donné
+     * @param i indice du nœud (entre 0 et nbNoeuds()-1)
+     * @return nom du nœud
+     */
+    public String nom(int i);
+
+    /**
+     * Retourne le nom de la ligne d'identifiant donné
+     * @param ligne identifiant de ligne reçu par un VisiteurArc
+     * @return nom de la ligne, null si l'identifiant vaut -1
+     */
+    public String nomLigne(int ligne);
+
+    /**
+     * Retourne le nombre de lignes du graphe
+     * @return nombre de lignes, dont les identifiants vont de 0 à nbLignes()-1
+     */
+    public int nbLignes();
+
+    /**
+     * Appelle le visiteur pour chaque arc sortant du nœud u
+     * @param u indice du nœud dont on parcourt les arcs sortants
+     * @param visiteur visiteur appelé pour chaque arc
+     */
+    public void pourChaqueSuivant(int u, VisiteurArc visiteur);
+}
@@ -0,0 +1,155 @@
+package graphe;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implémentation immuable de l'interface Graphe au format CSR
+ * (Compressed Sparse Row).
+ *
+ * Les arcs sortant du nœud i occupent les cases debut[i] à debut[i+1]-1
+ * des tableaux dest, cout et ligne : toute la structure tient dans
+ * quelques tableaux contigus, ce qui rend le parcours des voisins
+ * beaucoup plus rapide qu'avec des listes d'objets Arc.
+ *
+ * On obtient un GrapheCSR à partir d'un GrapheListe avec GrapheListe.figer().
+ */
+public class GrapheCSR implements Graphe, Mesurable {
+    // Attributs privés
+    private final TableNoms noms; // Nom de chaque nœud, avec son indice
+    private final int[] debut; // Premier arc de chaque nœud (taille nbNoeuds + 1)
+    private final int[] dest; // Indice du nœud de destination de chaque arc
+    private final double[] cout; // Coût de chaque arc
+    private final int[] ligne; // Identifiant de ligne de chaque arc (-1 si non définie)
+    private final String[] lignes; // Nom de chaque ligne, indexé par identifiant
+
+    /**
+     * Constructeur à partir des tableaux déjà construits (utilisé par GrapheListe.figer())
+     * @param noms table des noms des nœuds (qui ne doit plus être modifiée)
+     * @param debut premier arc de chaque nœud, debut[noms.taille()] = nombre d'arcs
+     * @param dest destination de chaque arc
+     * @param cout coût de chaque arc
+     * @param ligne identifiant de ligne de chaque arc
+     * @param lignes nom de chaque ligne
+     */
+    GrapheCSR(TableNoms noms, int[] debut, int[] dest, double[] cout, int[] ligne, String[] lignes) {
+        this.noms = noms;
+        this.debut = debut;
+        this.dest = dest;
+        this.cout = cout;
+        this.ligne = ligne;
+        this.lignes = lignes;
+    }
+
+    /**
+     * Retourne le nombre d'arcs du graphe
+     * @return nombre d'arcs
+     */
+    public int nbArcs() {
+        return this.dest.length;
+    }
+
+    /**
+     * Retourne le nombre de lignes connues du graphe
+     * @return nombre de lignes
+     */
+    @Override
+    public int nbLignes() {
+        return this.lignes.length;
+    }
+
+    /**
+     * Retourne la liste des noms de tous les nœuds du graphe.
+     * @return liste des nœuds
+     */
+    @Override
+    public List<String> listeNoeuds() {
+        List<String> res = new ArrayList<>(this.noms.taille());
+        for (int i = 0; i < this.noms.taille(); i++) {
+            res.add(this.noms.nom(i));
+        }
+        return res;
+    }
+
+    /**
+     * Retourne la liste des arcs sortants du nœud donné.
+     * Les objets Arc sont créés à la demande à partir des tableaux.
+     * @param n nom du nœud source
+     * @return liste des arcs sortants, ou liste vide si le nœud n'existe pas
+     */
+    @Override
+    public List<Arc> suivants(String n) {
+        List<Arc> res = new ArrayList<>();
+        int indice = this.noms.indice(n);
+        if (indice != -1) {
+            for (int k = this.debut[indice]; k < this.debut[indice + 1]; k++) {
+                res.add(new Arc(this.noms.nom(this.dest[k]), this.cout[k], nomLigne(this.ligne[k]), this.ligne[k]));
+            }
+        }
+        return res;
+    }
+
+    @Override
+    public int nbNoeuds() {
+        return this.noms.taille();
+    }
+
+    @Override
+    public int indice(String n) {
+        return this.noms.indice(n);
+    }
+
+    @Override
+    public String nom(int i) {
+        return this.noms.nom(i);
+    }
+
+    @Override
+    public String nomLigne(int ligne) {
+        return ligne == -1 ? null : this.lignes[ligne];
+    }
+
+    @Override
+    public void pourChaqueSuivant(int u, VisiteurArc visiteur) {
+        for (int k = this.debut[u]; k < this.debut[u + 1]; k++) {
+            visiteur.visiter(this.dest[k], this.cout[k], this.ligne[k]);
+        }
+    }
+
+    /**
+     * Représentation textuelle du graphe, au même format que GrapheListe.
+     * @return chaîne représentant le graphe
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < this.noms.taille(); i++) {
+            sb.append(this.noms.nom(i)).append(" -> ");
+            for (int k = this.debut[i]; k < this.debut[i + 1]; k++) {
+                sb.append(this.noms.nom(this.dest[k])).append("(").append(this.cout[k]).append(") ");
+            }
+            sb.append("\n");
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public long octetsUtilises() {
+        return Mesurable.objet(6) + this.noms.octetsUtilises() + Mesurable.tableau(this.debut.length, 4)
+               + Mesurable.tableau(this.dest.length, 4) + Mesurable.tableau(this.cout.length, 8)
+               + Mesurable.tableau(this.ligne.length, 4) + octetsLignes(this.lignes);
+    }
+
+    /**
+     * Retourne la place occupée par un tableau de noms de lignes
+     * @param lignes nom de chaque ligne
+     * @return nombre d'octets
+     */
+    static long octetsLignes(String[] lignes) {
+        long octets = Mesurable.tableau(lignes.length, 4);
+        for (String nom : lignes) {
+            octets += Mesurable.chaine(nom);
+        }
+        return octets;
+    }
+}
@@ -0,0 +1,245 @@
+package graphe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Implémentation immuable et compressée de l'interface Graphe, pour les très grands graphes.
+ *
+ * Les arcs sortant de chaque nœud sont triés par indice de destination puis encodés
+ * dans un unique tableau d'octets, avec des entiers de taille variable (varint, 7 bits par octet) :
+ *  - l'écart entre la destination et celle de l'arc précédent (le premier arc
+ *    est codé par son écart, signé, avec le nœud de départ),
+ *  - le coût quantifié, c'est-à-dire arrondi au multiple de pas le plus proche,
+ *  - l'identifiant de ligne + 1 (0 si l'arc n'a pas de ligne).
+ * Sur un réseau routier ou de transport, un arc occupe ainsi 3 à 5 octets au lieu de 16 en CSR.
+ *
+ * Les arcs sont décodés à la volée lors du parcours. L'arrondi des coûts introduit
+ * une erreur d'au plus pas/2 par arc : avec des coûts entiers et un pas de 1, elle est nulle.
+ */
+public class GrapheCompresse implements Graphe, Mesurable {
+    // Attributs privés
+    private final TableNoms noms; // Nom de chaque nœud, avec son indice
+    private final String[] lignes; // Nom de chaque ligne, indexé par identifiant
+    private final int[] debut; // Position des arcs de chaque nœud dans donnees (taille nbNoeuds + 1)
+    private final byte[] donnees; // Arcs encodés
+    private final double pas; // Pas de quantification des coûts
+    private final int nbArcs;
+
+    /**
+     * Construit la version compressée d'un graphe
+     * @param g graphe à compresser
+     * @param pas pas de quantification des coûts (strictement positif)
+     * @return graphe compressé, dont les nœuds ont les mêmes indices que dans g
+     */
+    public static GrapheCompresse compresser(Graphe g, double pas) {
+        if (!(pas > 0)) {
+            throw new IllegalArgumentException("Le pas de quantification doit être strictement positif : " + pas);
+        }
+        int nbNoeuds = g.nbNoeuds();
+        TableNoms noms = new TableNoms();
+        int[] debut = new int[nbNoeuds + 1];
+        Encodeur encodeur = new Encodeur(pas);
+        for (int u = 0; u < nbNoeuds; u++) {
+            noms.ajouter(g.nom(u));
+            encodeur.encoder(g, u);
+            debut[u + 1] = encodeur.taille;
+        }
+
+        String[] lignes = new String[encodeur.ligneMax + 1];
+        for (int id = 0; id < lignes.length; id++) {
+            lignes[id] = g.nomLigne(id);
+        }
+        return new GrapheCompresse(noms.compacter(), lignes, debut, Arrays.copyOf(encodeur.octets, encodeur.taille),
+                                   pas, encodeur.nbArcs);
+    }
+
+    /**
+     * Constructeur à partir des données déjà encodées
+     */
+    private GrapheCompresse(TableNoms noms, String[] lignes, int[] debut, byte[] donnees, double pas, int nbArcs) {
+        this.noms = noms;
+        this.lignes = lignes;
+        this.debut = debut;
+        this.donnees = donnees;
+        this.pas = pas;
+        this.nbArcs = nbArcs;
+    }
+
+    /**
+     * Encodage des arcs nœud par nœud dans un tableau d'octets qui grandit au besoin
+     */
+    private static class Encodeur implements VisiteurArc {
+        private final double pas;
+        private byte[] octets = new byte[1024];
+        private int taille; // Nombre d'octets utilisés
+        private int nbArcs;
+        private int ligneMax = -1; // Plus grand identifiant de ligne rencontré
+        // Arcs du nœud en cours d'encodage
+        private long[] cles = new long[16]; // (destination << 32) | position de l'arc, pour le tri
+        private long[] couts = new long[16];
+        private int[] lignesArcs = new int[16];
+        private int degre;
+
+        private Encodeur(double pas) {
+            this.pas = pas;
+        }
+
+        @Override
+        public void visiter(int dest, double cout, int ligne) {
+            if (this.degre == this.cles.length) {
+                this.cles = Arrays.copyOf(this.cles, this.degre * 2);
+                this.couts = Arrays.copyOf(this.couts, this.degre * 2);
+                this.lignesArcs = Arrays.copyOf(this.lignesArcs, this.degre * 2);
+            }
+            this.cles[this.degre] = ((long) dest << 32) | this.degre;
+            this.couts[this.degre] = Math.round(cout / this.pas);
+            this.lignesArcs[this.degre] = ligne;
+            this.degre++;
+            this.ligneMax = Math.max(this.ligneMax, ligne);
+        }
+
+        /** Encode les arcs sortant du nœud u, triés par destination */
+        private void encoder(Graphe g, int u) {
+            this.degre = 0;
+            g.pourChaqueSuivant(u, this);
+            Arrays.sort(this.cles, 0, this.degre);
+            long precedent = u;
+            for (int k = 0; k < this.degre; k++) {
+                int dest = (int) (this.cles[k] >>> 32);
+                int arc = (int) this.cles[k];
+                ecrire(zigzag(dest - precedent));
+                ecrire(zigzag(this.couts[arc]));
+                ecrire(this.lignesArcs[arc] + 1);
+                precedent = dest;
+            }
+            this.nbArcs += this.degre;
+        }
+
+        /** Écrit un entier positif en varint */
+        private void ecrire(long v) {
+            if (this.taille + 10 > this.octets.length) {
+                this.octets = Arrays.copyOf(this.octets, this.octets.length * 2);
+            }
+            while ((v & ~0x7FL) != 0) {
+                this.octets[this.taille++] = (byte) ((v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            this.octets[this.taille++] = (byte) v;
+        }
+    }
+
+    /**
+     * Transforme un entier signé en entier positif (0, -1, 1, -2... deviennent 0, 1, 2, 3...)
+     */
+    private static long zigzag(long v) {
+        return (v << 1) ^ (v >> 63);
+    }
+
+    /**
+     * Opération inverse de zigzag()
+     */
+    private static long dezigzag(long v) {
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    /**
+     * Retourne le nombre d'arcs du graphe
+     * @return nombre d'arcs
+     */
+    public int nbArcs() {
+        return this.nbArcs;
+    }
+
+    /**
+     * Retourne la taille des arcs encodés
+     * @return nombre d'octets utilisés par les arcs
+     */
+    public int tailleDonnees() {
+        return this.donnees.length;
+    }
+
+    @Override
+    public List<String> listeNoeuds() {
+        List<String> res = new ArrayList<>(this.noms.taille());
+        for (int i = 0; i < this.noms.taille(); i++) {
+            res.add(this.noms.nom(i));
+        }
+        return res;
+    }
+
+    @Override
+    public List<Arc> suivants(String n) {
+        List<Arc> res = new ArrayList<>();
+        int u = indice(n);
+        if (u != -1) {
+            pourChaqueSuivant(u, (dest, cout, ligne) -> res.add(new Arc(this.noms.nom(dest), cout, nomLigne(ligne), ligne)));
+        }
+        return res;
+    }
+
+    @Override
+    public int nbNoeuds() {
+        return this.noms.taille();
+    }
+
+    @Override
+    public int indice(String n) {
+        return this.noms.indice(n);
+    }
+
+    @Override
+    public String nom(int i) {
+        return this.noms.nom(i);
+    }
+
+    @Override
+    public String nomLigne(int ligne) {
+        return ligne == -1 ? null : this.lignes[ligne];
+    }
+
+    @Override
+    public int nbLignes() {
+        return this.lignes.length;
+    }
+
+    @Override
+    public void pourChaqueSuivant(int u, VisiteurArc visiteur) {
+        byte[] d = this.donnees;
+        int position = this.debut[u];
+        int fin = this.debut[u + 1];
+        long dest = u;
+        while (position < fin) {
+            // Trois varints par arc : écart de destination, coût quantifié, ligne + 1
+            long ecart = 0;
+            long cout = 0;
+            long ligne = 0;
+            for (int champ = 0; champ < 3; champ++) {
+                long v = 0;
+                int decalage = 0;
+                byte b;
+                do {
+                    b = d[position++];
+                    v |= (long) (b & 0x7F) << decalage;
+                    decalage += 7;
+                } while (b < 0);
+                if (champ == 0) {
+                    ecart = v;
+                } else if (champ == 1) {
+                    cout = v;
+                } else {
+                    ligne = v;
+                }
+            }
+            dest += dezigzag(ecart);
+            visiteur.visiter((int) dest, dezigzag(cout) * this.pas, (int) ligne - 1);
+        }
+    }
+
+    @Override
+    public long octetsUtilises() {
+        return Mesurable.objet(7) + this.noms.octetsUtilises() + GrapheCSR.octetsLignes(this.lignes)
+               + Mesurable.tableau(this.debut.length, 4) + Mesurable.tableau(this.donnees.length, 1);
+    }
+}
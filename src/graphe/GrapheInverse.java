@@ -0,0 +1,136 @@
+package graphe;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Graphe obtenu en inversant le sens de tous les arcs d'un autre graphe.
+ *
+ * Les arcs entrants de chaque nœud du graphe d'origine sont rangés au format CSR :
+ * pourChaqueSuivant(v, ...) visite tous les nœuds u tels que l'arc (u,v) existe,
+ * avec le coût et la ligne de cet arc. Les nœuds gardent leurs noms et leurs indices.
+ *
+ * Lancer un algorithme de plus court chemin sur le graphe inverse à partir d'un nœud
+ * donne la distance de chaque nœud vers ce nœud dans le graphe d'origine.
+ *
+ * Le graphe inverse est une copie : il ne suit pas les modifications ultérieures
+ * du graphe d'origine.
+ */
+public class GrapheInverse implements Graphe, Mesurable {
+    // Attributs privés
+    private final Graphe origine; // Graphe d'origine, pour les noms des nœuds et des lignes
+    private final int[] debut; // Premier arc entrant de chaque nœud (taille nbNoeuds + 1)
+    private final int[] source; // Nœud de départ de chaque arc dans le graphe d'origine
+    private final double[] cout;
+    private final int[] ligne;
+
+    /**
+     * Constructeur inversant tous les arcs d'un graphe
+     * @param origine graphe à inverser
+     */
+    public GrapheInverse(Graphe origine) {
+        this.origine = origine;
+        int n = origine.nbNoeuds();
+
+        // Premier passage : nombre d'arcs entrants de chaque nœud
+        int[] degreEntrant = new int[n + 1];
+        for (int u = 0; u < n; u++) {
+            origine.pourChaqueSuivant(u, (v, c, l) -> degreEntrant[v + 1]++);
+        }
+        this.debut = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            this.debut[v + 1] = this.debut[v] + degreEntrant[v + 1];
+        }
+
+        // Second passage : rangement des arcs à leur place
+        int m = this.debut[n];
+        this.source = new int[m];
+        this.cout = new double[m];
+        this.ligne = new int[m];
+        int[] remplissage = this.debut.clone();
+        for (int u = 0; u < n; u++) {
+            final int depart = u;
+            origine.pourChaqueSuivant(u, (v, c, l) -> {
+                int k = remplissage[v]++;
+                this.source[k] = depart;
+                this.cout[k] = c;
+                this.ligne[k] = l;
+            });
+        }
+    }
+
+    /**
+     * Retourne le graphe d'origine
+     * @return graphe dont on a inversé les arcs
+     */
+    public Graphe getOrigine() {
+        return this.origine;
+    }
+
+    /**
+     * Retourne le nombre d'arcs du graphe
+     * @return nombre d'arcs
+     */
+    public int nbArcs() {
+        return this.source.length;
+    }
+
+    @Override
+    public List<String> listeNoeuds() {
+        return this.origine.listeNoeuds();
+    }
+
+    @Override
+    public List<Arc> suivants(String n) {
+        List<Arc> res = new ArrayList<>();
+        int v = indice(n);
+        if (v != -1) {
+            for (int k = this.debut[v]; k < this.debut[v + 1]; k++) {
+                res.add(new Arc(nom(this.source[k]), this.cout[k], nomLigne(this.ligne[k]), this.ligne[k]));
+            }
+        }
+        return res;
+    }
+
+    @Override
+    public int nbNoeuds() {
+        return this.debut.length - 1;
+    }
+
+    @Override
+    public int indice(String n) {
+        return this.origine.indice(n);
+    }
+
+    @Override
+    public String nom(int i) {
+        return this.origine.nom(i);
+    }
+
+    @Override
+    public String nomLigne(int ligne) {
+        return this.origine.nomLigne(ligne);
+    }
+
+    @Override
+    public int nbLignes() {
+        return this.origine.nbLignes();
+    }
+
+    @Override
+    public void pourChaqueSuivant(int v, VisiteurArc visiteur) {
+        for (int k = this.debut[v]; k < this.debut[v + 1]; k++) {
+            visiteur.visiter(this.source[k], this.cout[k], this.ligne[k]);
+        }
+    }
+
+    /**
+     * Retourne la place occupée par les arcs inversés, sans compter le graphe d'origine
+     * @return nombre d'octets estimé
+     */
+    @Override
+    public long octetsUtilises() {
+        return Mesurable.objet(5) + Mesurable.tableau(this.debut.length, 4) + Mesurable.tableau(this.source.length, 4)
+               + Mesurable.tableau(this.cout.length, 8) + Mesurable.tableau(this.ligne.length, 4);
+    }
+}
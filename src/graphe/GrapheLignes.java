@@ -0,0 +1,150 @@
+package graphe;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Vue d'un graphe réduite à certaines lignes, sans recopier les arcs.
+ *
+ * Les lignes gardées sont marquées dans un BitSet indexé par identifiant de ligne :
+ * créer une vue ne coûte que nbLignes() bits, ce qui permet d'en créer une par requête.
+ * Les arcs sans ligne (correspondances à pied par exemple) sont toujours gardés.
+ * Tous les nœuds restent présents, avec les mêmes indices que dans le graphe d'origine.
+ * Le filtrage des arcs passe par un visiteur propre à la vue, dont l'état est rétabli après
+ * chaque parcours : les parcours imbriqués sont permis, mais une vue ne se parcourt pas
+ * depuis plusieurs threads en même temps.
+ *
+ * Exemples :
+ *  new GrapheLignes(reseau, List.of("1", "4", "14"))          // lignes 1, 4 et 14
+ *  new GrapheLignes(reseau, nom -> nom.startsWith("RER"))     // un mode de transport
+ *  new GrapheLignes(reseau, nom -> !exclues.contains(nom))    // lignes exclues par l'utilisateur
+ */
+public class GrapheLignes implements Graphe, Mesurable {
+    // Attributs privés
+    private final Graphe origine;
+    private final BitSet gardees; // Identifiants des lignes gardées
+    private final Filtre filtre = new Filtre(); // Visiteur réutilisé par pourChaqueSuivant()
+
+    /**
+     * Constructeur gardant une liste de lignes
+     * @param origine graphe filtré
+     * @param lignes noms des lignes à garder (les noms inconnus sont ignorés)
+     */
+    public GrapheLignes(Graphe origine, Collection<String> lignes) {
+        this(origine, lignes::contains);
+    }
+
+    /**
+     * Constructeur gardant les lignes dont le nom vérifie une condition
+     * @param origine graphe filtré
+     * @param garder condition sur le nom de la ligne
+     */
+    public GrapheLignes(Graphe origine, Predicate<String> garder) {
+        this.origine = origine;
+        this.gardees = new BitSet(origine.nbLignes());
+        for (int id = 0; id < origine.nbLignes(); id++) {
+            if (garder.test(origine.nomLigne(id))) {
+                this.gardees.set(id);
+            }
+        }
+    }
+
+    /**
+     * Indique si une ligne est gardée dans la vue
+     * @param ligne nom de la ligne
+     * @return vrai si la ligne fait partie de la vue
+     */
+    public boolean contientLigne(String ligne) {
+        for (int id = this.gardees.nextSetBit(0); id >= 0; id = this.gardees.nextSetBit(id + 1)) {
+            if (this.origine.nomLigne(id).equals(ligne)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Retourne le graphe filtré
+     * @return graphe d'origine
+     */
+    public Graphe getOrigine() {
+        return this.origine;
+    }
+
+    @Override
+    public List<String> listeNoeuds() {
+        return this.origine.listeNoeuds();
+    }
+
+    @Override
+    public List<Arc> suivants(String n) {
+        List<Arc> res = new ArrayList<>();
+        int u = indice(n);
+        if (u != -1) {
+            pourChaqueSuivant(u, (v, c, l) -> res.add(new Arc(nom(v), c, nomLigne(l), l)));
+        }
+        return res;
+    }
+
+    @Override
+    public int nbNoeuds() {
+        return this.origine.nbNoeuds();
+    }
+
+    @Override
+    public int indice(String n) {
+        return this.origine.indice(n);
+    }
+
+    @Override
+    public String nom(int i) {
+        return this.origine.nom(i);
+    }
+
+    @Override
+    public String nomLigne(int ligne) {
+        return this.origine.nomLigne(ligne);
+    }
+
+    @Override
+    public int nbLignes() {
+        return this.origine.nbLignes();
+    }
+
+    @Override
+    public void pourChaqueSuivant(int u, VisiteurArc visiteur) {
+        VisiteurArc englobant = this.filtre.visiteur; // Parcours en cours sur la même vue, s'il y en a un
+        this.filtre.visiteur = visiteur;
+        try {
+            this.origine.pourChaqueSuivant(u, this.filtre);
+        } finally {
+            this.filtre.visiteur = englobant;
+        }
+    }
+
+    /**
+     * Visiteur ne transmettant que les arcs sans ligne ou d'une ligne gardée
+     */
+    private class Filtre implements VisiteurArc {
+        private VisiteurArc visiteur;
+
+        @Override
+        public void visiter(int v, double cout, int ligne) {
+            if (ligne == -1 || gardees.get(ligne)) {
+                this.visiteur.visiter(v, cout, ligne);
+            }
+        }
+    }
+
+    /**
+     * Retourne la place occupée par la vue, sans compter le graphe d'origine
+     * @return nombre d'octets estimé
+     */
+    @Override
+    public long octetsUtilises() {
+        return Mesurable.objet(3) + Mesurable.objet(2) + Mesurable.objet(3) + Mesurable.tableau(this.gardees.size() / 64, 8);
+    }
+}
@@ -5,30 +5,60 @@ import java.util.List;
 import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
+import java.nio.file.Path;
 
 /**
  * Implémentation de l'interface Graphe utilisant des listes d'adjacence
  */
-public class GrapheListe implements Graphe {
+public class GrapheListe implements Graphe, Mesurable {
     // Attributs privés
-    private ArrayList<String> noeuds; // Liste des nœuds du graphe
+    private TableNoms noeuds; // Noms des nœuds du graphe, avec leur indice
     private ArrayList<Arcs> adjacence; // Liste des arcs sortant de chaque nœud
+    private Lignes lignes; // Registre des lignes des arcs
+    private Positions positions; // Coordonnées des nœuds, si elles sont connues
     
     /**
      * Constructeur initialisant un graphe vide
      */
     public GrapheListe() {
-        this.noeuds = new ArrayList<>();
+        this(new Lignes());
+    }
+
+    /**
+     * Constructeur initialisant un graphe vide utilisant un registre de lignes existant
+     * @param lignes registre dans lequel sont enregistrées les lignes des arcs
+     */
+    public GrapheListe(Lignes lignes) {
+        this.noeuds = new TableNoms();
         this.adjacence = new ArrayList<>();
+        this.lignes = lignes;
+        this.positions = new Positions();
+    }
+
+    /**
+     * Retourne le registre des lignes du graphe
+     * @return registre des lignes
+     */
+    public Lignes getLignes() {
+        return this.lignes;
+    }
+
+    /**
+     * Retourne les coordonnées des nœuds du graphe, valables aussi pour la copie figer()
+     * @return positions des nœuds (NaN pour les nœuds sans position)
+     */
+    public Positions getPositions() {
+        return this.positions;
     }
     
     /**
-     * Retourne l'indice d'un nœud dans la liste des nœuds
+     * Retourne l'indice d'un nœud dans la liste des nœuds, en temps constant
      * @param n nœud dont on veut l'indice
      * @return indice du nœud, -1 si le nœud n'existe pas
      */
-    private int getIndice(String n) {
-        return this.noeuds.indexOf(n);
+    @Override
+    public int indice(String n) {
+        return this.noeuds.indice(n);
     }
     
     /**
@@ -37,15 +67,40 @@ public class GrapheListe implements Graphe {
      * @return indice du nœud dans la liste
      */
     public int ajouterNoeud(String n) {
-        int indice = getIndice(n);
-        if (indice == -1) {
-            // Le nœud n'existe pas encore, on l'ajoute
-            this.noeuds.add(n);
+        int indice = this.noeuds.ajouter(n);
+        if (indice == this.adjacence.size()) {
+            // Le nœud n'existait pas encore, on crée sa liste d'arcs
             this.adjacence.add(new Arcs());
-            return this.noeuds.size() - 1;
         }
         return indice;
     }
+
+    /**
+     * Ajoute un nœud au graphe avec ses coordonnées, ou change les coordonnées d'un nœud existant
+     * @param n nœud à ajouter
+     * @param x abscisse du nœud
+     * @param y ordonnée du nœud
+     * @return indice du nœud dans la liste
+     */
+    public int ajouterNoeud(String n, double x, double y) {
+        int indice = ajouterNoeud(n);
+        this.positions.definir(indice, x, y);
+        return indice;
+    }
+
+    /**
+     * Retourne l'identifiant d'une ligne, en l'enregistrant si elle est nouvelle
+     * @param ligne nom de la ligne (peut être null)
+     * @return identifiant de la ligne, -1 si la ligne est null
+     */
+    private int identifiantLigne(String ligne) {
+        // Les identifiants de ligne sont stockés sur un short dans Arcs : on vérifie la place
+        // avant d'enregistrer, pour qu'un refus ne laisse pas de ligne en trop dans le registre
+        if (ligne != null && this.lignes.identifiant(ligne) == -1 && this.lignes.taille() > Short.MAX_VALUE) {
+            throw new IllegalStateException("Trop de lignes différentes dans le graphe : " + ligne);
+        }
+        return this.lignes.enregistrer(ligne);
+    }
     
     /**
      * Ajoute un arc entre deux nœuds du graphe
@@ -54,13 +109,8 @@ public class GrapheListe implements Graphe {
      * @param cout coût de l'arc
      */
     public void ajouterArc(String depart, String destination, double cout) {
-        // On s'assure que les deux nœuds existent
-        int indiceDepart = ajouterNoeud(depart);
-        ajouterNoeud(destination);
-        
-        // On ajoute l'arc à la liste d'adjacence du nœud de départ
-        Arc nouveauArc = new Arc(destination, cout);
-        this.adjacence.get(indiceDepart).ajouterArc(nouveauArc);
+        // Arc sans ligne
+        ajouterArc(depart, destination, cout, null);
     }
     /**
      * Retourne la liste des noms de tous les nœuds du graphe.
@@ -69,7 +119,11 @@ public class GrapheListe implements Graphe {
      */
     @Override
     public List<String> listeNoeuds() {
-        return new ArrayList<>(this.noeuds);
+        List<String> res = new ArrayList<>(this.noeuds.taille());
+        for (int i = 0; i < this.noeuds.taille(); i++) {
+            res.add(this.noeuds.nom(i));
+        }
+        return res;
     }
     
     @Override
@@ -80,13 +134,41 @@ public class GrapheListe implements Graphe {
      * @return Liste des arcs sortants depuis ce nœud, ou liste vide s'il n'existe pas
      */
     public List<Arc> suivants(String n) {
-        int indice = getIndice(n);
+        int indice = indice(n);
         if (indice != -1) {
-            return this.adjacence.get(indice).getArcs();
+            return this.adjacence.get(indice).getArcs(this);
         }
         // Si le nœud n'existe pas, on retourne une liste vide
         return new ArrayList<>();
     }
+
+    @Override
+    public int nbNoeuds() {
+        return this.noeuds.taille();
+    }
+
+    @Override
+    public String nom(int i) {
+        return this.noeuds.nom(i);
+    }
+
+    @Override
+    public String nomLigne(int ligne) {
+        return this.lignes.nom(ligne);
+    }
+
+    @Override
+    public int nbLignes() {
+        return this.lignes.taille();
+    }
+
+    @Override
+    public void pourChaqueSuivant(int u, VisiteurArc visiteur) {
+        Arcs arcs = this.adjacence.get(u);
+        for (int k = 0; k < arcs.taille(); k++) {
+            visiteur.visiter(arcs.getDest(k), arcs.getCout(k), arcs.getLigne(k));
+        }
+    }
     /**
      * Représentation textuelle du graphe : chaque ligne contient un nœud et ses arcs sortants.
      *
@@ -97,14 +179,14 @@ public class GrapheListe implements Graphe {
         StringBuilder sb = new StringBuilder();
     
         // Pour chaque nœud du graphe
-        for (int i = 0; i < this.noeuds.size(); i++) {
-            String noeud = this.noeuds.get(i);
+        for (int i = 0; i < this.noeuds.taille(); i++) {
+            String noeud = this.noeuds.nom(i);
             sb.append(noeud).append(" -> ");
         
             // Pour chaque arc sortant de ce nœud
-            List<Arc> arcsNoeud = this.adjacence.get(i).getArcs();
-            for (Arc arc : arcsNoeud) {
-                sb.append(arc.getDest()).append("(").append(arc.getCout()).append(") ");
+            Arcs arcsNoeud = this.adjacence.get(i);
+            for (int k = 0; k < arcsNoeud.taille(); k++) {
+                sb.append(this.noeuds.nom(arcsNoeud.getDest(k))).append("(").append(arcsNoeud.getCout(k)).append(") ");
             }
         
             sb.append("\n");
@@ -113,12 +195,106 @@ public class GrapheListe implements Graphe {
         return sb.toString();
     }
 
+    /**
+     * Ajoute un arc entre deux nœuds du graphe, sur une ligne donnée
+     * @param depart nœud de départ
+     * @param destination nœud d'arrivée
+     * @param cout coût de l'arc
+     * @param ligne nom de la ligne (peut être null)
+     */
     public void ajouterArc(String depart, String destination, double cout, String ligne) {
+        // On s'assure que les deux nœuds existent
         int indiceDepart = ajouterNoeud(depart);
-        ajouterNoeud(destination);
+        int indiceDestination = ajouterNoeud(destination);
 
-        Arc arc = new Arc(destination, cout, ligne);
-        this.adjacence.get(indiceDepart).ajouterArc(arc);
+        // On ajoute l'arc à la liste d'adjacence du nœud de départ
+        this.adjacence.get(indiceDepart).ajouterArc(indiceDestination, cout, identifiantLigne(ligne));
+    }
+
+    /**
+     * Fusionne les arcs parallèles de tout le graphe : entre deux nœuds, il ne reste
+     * qu'un arc par ligne, avec le plus petit coût. Les plus courts chemins ne changent pas,
+     * mais les algorithmes ont moins d'arcs à parcourir.
+     *
+     * @return nombre d'arcs supprimés
+     */
+    public int normaliser() {
+        int supprimes = 0;
+        for (Arcs arcs : this.adjacence) {
+            supprimes += arcs.dedoublonner();
+        }
+        return supprimes;
+    }
+
+    /**
+     * Construit une copie immuable du graphe au format CSR, optimisée pour la lecture.
+     * Les nœuds conservent le même ordre que dans listeNoeuds().
+     * Les modifications ultérieures de ce GrapheListe ne sont pas répercutées sur la copie.
+     *
+     * @return graphe figé au format CSR
+     */
+    public GrapheCSR figer() {
+        int nbNoeuds = this.noeuds.taille();
+        int[] debut = new int[nbNoeuds + 1];
+        for (int i = 0; i < nbNoeuds; i++) {
+            debut[i + 1] = debut[i] + this.adjacence.get(i).taille();
+        }
+
+        int nbArcs = debut[nbNoeuds];
+        int[] dest = new int[nbArcs];
+        double[] cout = new double[nbArcs];
+        int[] ligne = new int[nbArcs];
+        int k = 0;
+        for (int i = 0; i < nbNoeuds; i++) {
+            Arcs arcs = this.adjacence.get(i);
+            for (int j = 0; j < arcs.taille(); j++) {
+                dest[k] = arcs.getDest(j);
+                cout[k] = arcs.getCout(j);
+                ligne[k] = arcs.getLigne(j);
+                k++;
+            }
+        }
+
+        String[] nomsLignes = new String[this.lignes.taille()];
+        for (int id = 0; id < nomsLignes.length; id++) {
+            nomsLignes[id] = this.lignes.nom(id);
+        }
+
+        return new GrapheCSR(this.noeuds.compacter(), debut, dest, cout, ligne, nomsLignes);
+    }
+
+    /**
+     * Sauvegarde le graphe dans un fichier binaire (voir FormatGraphe),
+     * bien plus rapide à recharger que les fichiers texte.
+     *
+     * @param fichier Chemin du fichier, écrasé s'il existe
+     * @throws IOException En cas d'erreur d'écriture du fichier
+     */
+    public void sauvegarder(Path fichier) throws IOException {
+        FormatGraphe.ecrire(this, fichier);
+    }
+
+    /**
+     * Charge un graphe sauvegardé par sauvegarder().
+     * Les nœuds, les arcs et les lignes retrouvent leurs indices d'origine.
+     *
+     * @param fichier Chemin du fichier binaire
+     * @return Graphe modifiable identique au graphe sauvegardé
+     * @throws IOException En cas d'erreur de lecture, ou si le fichier est invalide ou corrompu
+     */
+    public static GrapheListe charger(Path fichier) throws IOException {
+        GrapheCSR csr = FormatGraphe.lire(fichier);
+        GrapheListe g = new GrapheListe();
+        for (int id = 0; id < csr.nbLignes(); id++) {
+            g.lignes.enregistrer(csr.nomLigne(id));
+        }
+        for (int i = 0; i < csr.nbNoeuds(); i++) {
+            g.ajouterNoeud(csr.nom(i));
+        }
+        for (int u = 0; u < csr.nbNoeuds(); u++) {
+            csr.pourChaqueSuivant(u, g.adjacence.get(u)::ajouterArc);
+        }
+        return g;
     }
 
     /**
@@ -166,6 +342,21 @@ public class GrapheListe implements Graphe {
         }
         
         System.out.println("Graphe chargé depuis " + nomFichier + " : " + 
-                          noeuds.size() + " nœuds");
+                          noeuds.taille() + " nœuds");
+    }
+
+    /**
+     * Retourne la place occupée par le graphe (noms, arcs, registre des lignes et positions)
+     * @return nombre d'octets estimé
+     */
+    @Override
+    public long octetsUtilises() {
+        long octets = Mesurable.objet(4) + this.noeuds.octetsUtilises() + this.lignes.octetsUtilises()
+                      + this.positions.octetsUtilises();
+        octets += Mesurable.objet(2) + Mesurable.tableau(this.adjacence.size(), 4);
+        for (Arcs arcs : this.adjacence) {
+            octets += arcs.octetsUtilises();
+        }
+        return octets;
     }
-}
\ No newline at end of file
+}
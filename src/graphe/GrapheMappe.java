@@ -0,0 +1,255 @@
+package graphe;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Implémentation de l'interface Graphe lisant un fichier au format FormatGraphe
+ * projeté en mémoire (FileChannel.map), sans recopier les données sur le tas Java.
+ *
+ * Les pages du fichier sont chargées à la demande par le système et partagées
+ * entre tous les processus qui ouvrent le même fichier. Chaque section est projetée
+ * séparément, elle doit donc faire moins de 2 Go (soit environ 268 millions d'arcs).
+ *
+ * Le graphe est en lecture seule et peut être parcouru par plusieurs threads à la fois.
+ */
+public class GrapheMappe implements Graphe, Mesurable {
+    // Attributs privés
+    private final int nbNoeuds;
+    private final int nbArcs;
+    private final int nbLignes;
+    private final DoubleBuffer cout; // Coût de chaque arc
+    private final IntBuffer debut; // Premier arc de chaque nœud
+    private final IntBuffer dest; // Destination de chaque arc
+    private final IntBuffer ligne; // Identifiant de ligne de chaque arc
+    private final IntBuffer table; // Table de hachage des noms
+    private final IntBuffer debutNoms; // Position du nom de chaque nœud
+    private final IntBuffer debutLignes; // Position du nom de chaque ligne
+    private final ByteBuffer noms; // Octets UTF-8 des noms des nœuds
+    private final ByteBuffer lignes; // Octets UTF-8 des noms des lignes
+
+    /**
+     * Ouvre un fichier de graphe écrit par FormatGraphe.ecrire(), sans vérifier
+     * sa somme de contrôle : l'ouverture ne lit que l'en-tête.
+     * Le contenu des sections (destinations, lignes des arcs, table des noms) n'est pas contrôlé :
+     * le fichier doit être de confiance, sinon une destination invalide ne sera détectée
+     * qu'au cours d'un algorithme.
+     * @param fichier chemin du fichier
+     * @return graphe projeté en mémoire
+     * @throws IOException en cas d'erreur de lecture ou si le fichier n'est pas un graphe valide
+     */
+    public static GrapheMappe ouvrir(Path fichier) throws IOException {
+        return ouvrir(fichier, false);
+    }
+
+    /**
+     * Ouvre un fichier de graphe écrit par FormatGraphe.ecrire()
+     * @param fichier chemin du fichier
+     * @param verifier si vrai, la somme de contrôle est vérifiée, ce qui lit tout le fichier
+     * @return graphe projeté en mémoire
+     * @throws IOException en cas d'erreur de lecture, si le fichier n'est pas un graphe valide
+     *                     ou si la somme de contrôle est incorrecte
+     */
+    public static GrapheMappe ouvrir(Path fichier, boolean verifier) throws IOException {
+        try (FileChannel canal = FileChannel.open(fichier, StandardOpenOption.READ)) {
+            return new GrapheMappe(canal, verifier);
+        }
+    }
+
+    /**
+     * Constructeur projetant chacune des sections du fichier
+     * @param canal canal ouvert en lecture sur le fichier
+     * @param verifier si vrai, la somme de contrôle est vérifiée
+     * @throws IOException en cas d'erreur de lecture, d'en-tête invalide ou de fichier corrompu
+     */
+    private GrapheMappe(FileChannel canal, boolean verifier) throws IOException {
+        if (canal.size() < FormatGraphe.TAILLE_ENTETE) {
+            throw new IOException("Fichier de graphe tronqué");
+        }
+        ByteBuffer octetsEntete = projeter(canal, 0, FormatGraphe.TAILLE_ENTETE);
+        long[] entete = FormatGraphe.lireEntete(octetsEntete, canal.size());
+        this.nbNoeuds = (int) entete[1];
+        this.nbArcs = (int) entete[2];
+        this.nbLignes = (int) entete[3];
+        int tailleTable = (int) entete[4];
+
+        if (verifier) {
+            CRC32 controle = new CRC32();
+            controle.update(octetsEntete.position(0).limit(FormatGraphe.ENTETE_CONTROLE));
+            long position = FormatGraphe.TAILLE_ENTETE;
+            while (position < canal.size()) {
+                long taille = Math.min(canal.size() - position, 1 << 30);
+                controle.update(projeter(canal, position, taille));
+                position += taille;
+            }
+            if (controle.getValue() != entete[5]) {
+                throw new IOException("Graphe binaire corrompu : somme de contrôle incorrecte");
+            }
+        }
+
+        long position = FormatGraphe.TAILLE_ENTETE;
+        this.cout = projeter(canal, position, 8L * this.nbArcs).asDoubleBuffer();
+        position += 8L * this.nbArcs;
+        this.debut = projeter(canal, position, 4L * (this.nbNoeuds + 1)).asIntBuffer();
+        position += 4L * (this.nbNoeuds + 1);
+        if (this.debut.get(this.nbNoeuds) != this.nbArcs) {
+            throw new IOException("Graphe binaire corrompu : nombre d'arcs incohérent");
+        }
+        this.dest = projeter(canal, position, 4L * this.nbArcs).asIntBuffer();
+        position += 4L * this.nbArcs;
+        this.ligne = projeter(canal, position, 4L * this.nbArcs).asIntBuffer();
+        position += 4L * this.nbArcs;
+        this.table = projeter(canal, position, 4L * tailleTable).asIntBuffer();
+        position += 4L * tailleTable;
+        this.debutNoms = projeter(canal, position, 4L * (this.nbNoeuds + 1)).asIntBuffer();
+        position += 4L * (this.nbNoeuds + 1);
+        this.debutLignes = projeter(canal, position, 4L * (this.nbLignes + 1)).asIntBuffer();
+        position += 4L * (this.nbLignes + 1);
+        FormatGraphe.verifierNoms(this.debutNoms.get(this.nbNoeuds), this.debutLignes.get(this.nbLignes),
+                                  canal.size() - position);
+        this.noms = projeter(canal, position, this.debutNoms.get(this.nbNoeuds));
+        position += this.debutNoms.get(this.nbNoeuds);
+        this.lignes = projeter(canal, position, this.debutLignes.get(this.nbLignes));
+    }
+
+    /**
+     * Projette une partie du fichier en mémoire, en lecture seule
+     * @param canal canal ouvert sur le fichier
+     * @param position position du début de la partie
+     * @param taille taille de la partie en octets
+     * @return tampon projeté, dans l'ordre d'octets du format
+     * @throws IOException si la partie dépasse la fin du fichier ou 2 Go
+     */
+    private static ByteBuffer projeter(FileChannel canal, long position, long taille) throws IOException {
+        if (taille < 0 || taille > Integer.MAX_VALUE || position + taille > canal.size()) {
+            throw new IOException("Fichier de graphe tronqué ou section trop grande");
+        }
+        return canal.map(FileChannel.MapMode.READ_ONLY, position, taille).order(FormatGraphe.ORDRE);
+    }
+
+    /**
+     * Décode une chaîne UTF-8 stockée dans une section du fichier
+     * @param octets section contenant les chaînes
+     * @param positions position de début de chaque chaîne
+     * @param i numéro de la chaîne
+     * @return chaîne décodée
+     */
+    private static String chaine(ByteBuffer octets, IntBuffer positions, int i) {
+        int d = positions.get(i);
+        byte[] t = new byte[positions.get(i + 1) - d];
+        octets.get(d, t);
+        return new String(t, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Retourne le nombre d'arcs du graphe
+     * @return nombre d'arcs
+     */
+    public int nbArcs() {
+        return this.nbArcs;
+    }
+
+    @Override
+    public List<String> listeNoeuds() {
+        List<String> res = new ArrayList<>(this.nbNoeuds);
+        for (int i = 0; i < this.nbNoeuds; i++) {
+            res.add(nom(i));
+        }
+        return res;
+    }
+
+    @Override
+    public List<Arc> suivants(String n) {
+        List<Arc> res = new ArrayList<>();
+        int u = indice(n);
+        if (u != -1) {
+            for (int k = this.debut.get(u); k < this.debut.get(u + 1); k++) {
+                int l = this.ligne.get(k);
+                res.add(new Arc(nom(this.dest.get(k)), this.cout.get(k), nomLigne(l), l));
+            }
+        }
+        return res;
+    }
+
+    @Override
+    public int nbNoeuds() {
+        return this.nbNoeuds;
+    }
+
+    @Override
+    public int indice(String n) {
+        byte[] cherche = n.getBytes(StandardCharsets.UTF_8);
+        int masque = this.table.capacity() - 1;
+        int position = FormatGraphe.hacher(cherche, 0, cherche.length) & masque;
+        // Sondage linéaire jusqu'à trouver le nom ou une case vide, au plus une fois chaque case :
+        // une table sans case vide (fichier corrompu) ne fait pas boucler la recherche
+        for (int essais = 0; essais <= masque && this.table.get(position) != 0; essais++) {
+            int i = this.table.get(position) - 1;
+            int d = this.debutNoms.get(i);
+            if (this.debutNoms.get(i + 1) - d == cherche.length && egal(d, cherche)) {
+                return i;
+            }
+            position = (position + 1) & masque;
+        }
+        return -1;
+    }
+
+    /**
+     * Compare les octets d'un nom stocké avec ceux recherchés
+     * @param d position du nom stocké
+     * @param cherche octets recherchés (de même longueur que le nom stocké)
+     * @return vrai si les octets sont identiques
+     */
+    private boolean egal(int d, byte[] cherche) {
+        for (int j = 0; j < cherche.length; j++) {
+            if (this.noms.get(d + j) != cherche[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String nom(int i) {
+        return chaine(this.noms, this.debutNoms, i);
+    }
+
+    @Override
+    public String nomLigne(int ligne) {
+        return ligne == -1 ? null : chaine(this.lignes, this.debutLignes, ligne);
+    }
+
+    @Override
+    public int nbLignes() {
+        return this.nbLignes;
+    }
+
+    @Override
+    public void pourChaqueSuivant(int u, VisiteurArc visiteur) {
+        int fin = this.debut.get(u + 1);
+        for (int k = this.debut.get(u); k < fin; k++) {
+            visiteur.visiter(this.dest.get(k), this.cout.get(k), this.ligne.get(k));
+        }
+    }
+
+    /**
+     * Retourne la taille des sections projetées. Ces octets sont hors du tas Java :
+     * ils sont dans le cache de pages du système, chargés à la demande.
+     * @return nombre d'octets projetés
+     */
+    @Override
+    public long octetsUtilises() {
+        return 8L * this.cout.capacity() + 4L * this.debut.capacity() + 4L * this.dest.capacity()
+               + 4L * this.ligne.capacity() + 4L * this.table.capacity() + 4L * this.debutNoms.capacity()
+               + 4L * this.debutLignes.capacity() + this.noms.capacity() + this.lignes.capacity();
+    }
+}
@@ -0,0 +1,334 @@
+package graphe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Vue d'un graphe dans laquelle certains nœuds ou arcs sont fermés, sans recopier le graphe.
+ *
+ * Les arcs sont numérotés de 0 à nbArcs()-1 : les arcs sortant du nœud u portent les numéros
+ * premierArc[u] à premierArc[u+1]-1, dans l'ordre de pourChaqueSuivant(u). Les nœuds et les arcs
+ * fermés sont marqués dans deux BitSet ; un nœud fermé n'a plus d'arcs sortants ni entrants.
+ *
+ * La numérotation est calculée une seule fois par graphe et partagée par toutes les vues
+ * créées avec nouvelleVue() : préparer un scénario de perturbation ne coûte que ses BitSet.
+ * Le graphe d'origine ne doit plus être modifié tant que des vues l'utilisent.
+ * Une vue réutilise le même filtre à chaque parcours, en sauvegardant son état autour de
+ * chaque appel : les parcours imbriqués sont possibles, mais une vue ne doit être parcourue
+ * que par un seul thread à la fois, chaque thread pouvant utiliser sa propre vue.
+ *
+ * Exemple :
+ *  GrapheMasque perturbe = new GrapheMasque(reseau);
+ *  perturbe.fermerLigneEntre("4", "Odéon", "Montparnasse-Bienvenüe");
+ *  perturbe.fermerStation("Châtelet");
+ *  Valeurs v = new Dijkstra().resoudre(perturbe, "Gare du Nord");
+ */
+public class GrapheMasque implements Graphe, Mesurable {
+    // Attributs privés
+    private final Graphe origine;
+    private final int[] premierArc; // Numéro du premier arc de chaque nœud (taille nbNoeuds + 1), partagé
+    private final BitSet noeudsFermes;
+    private final BitSet arcsFermes;
+    private final Filtre filtre = new Filtre(); // Réutilisé par pourChaqueSuivant() pour ne rien allouer
+
+    /**
+     * Constructeur créant une vue sans aucune fermeture
+     * @param origine graphe masqué
+     */
+    public GrapheMasque(Graphe origine) {
+        this(origine, numeroterArcs(origine));
+    }
+
+    /**
+     * Constructeur partageant une numérotation des arcs déjà calculée
+     */
+    private GrapheMasque(Graphe origine, int[] premierArc) {
+        this.origine = origine;
+        this.premierArc = premierArc;
+        this.noeudsFermes = new BitSet(origine.nbNoeuds());
+        this.arcsFermes = new BitSet(premierArc[premierArc.length - 1]);
+    }
+
+    /**
+     * Calcule le numéro du premier arc de chaque nœud
+     */
+    private static int[] numeroterArcs(Graphe g) {
+        int n = g.nbNoeuds();
+        int[] premierArc = new int[n + 1];
+        for (int u = 0; u < n; u++) {
+            final int source = u;
+            g.pourChaqueSuivant(u, (v, c, l) -> premierArc[source + 1]++);
+            premierArc[u + 1] += premierArc[u];
+        }
+        return premierArc;
+    }
+
+    /**
+     * Crée une nouvelle vue du même graphe, sans aucune fermeture, qui partage la numérotation des arcs
+     * @return nouvelle vue
+     */
+    public GrapheMasque nouvelleVue() {
+        return new GrapheMasque(this.origine, this.premierArc);
+    }
+
+    /**
+     * Crée une copie de cette vue, avec les mêmes fermetures, qui peut ensuite être modifiée séparément
+     * @return copie de la vue
+     */
+    public GrapheMasque copier() {
+        GrapheMasque copie = nouvelleVue();
+        copie.noeudsFermes.or(this.noeudsFermes);
+        copie.arcsFermes.or(this.arcsFermes);
+        return copie;
+    }
+
+    /**
+     * Retourne le graphe masqué
+     * @return graphe d'origine
+     */
+    public Graphe getOrigine() {
+        return this.origine;
+    }
+
+    /**
+     * Retourne le nombre d'arcs du graphe d'origine, fermés ou non
+     * @return nombre d'arcs
+     */
+    public int nbArcs() {
+        return this.premierArc[this.premierArc.length - 1];
+    }
+
+    /**
+     * Ferme une station : plus aucun arc n'en part ni n'y arrive
+     * @param station nom de la station
+     */
+    public void fermerStation(String station) {
+        this.noeudsFermes.set(indiceExistant(station));
+    }
+
+    /**
+     * Rouvre une station fermée
+     * @param station nom de la station
+     */
+    public void rouvrirStation(String station) {
+        this.noeudsFermes.clear(indiceExistant(station));
+    }
+
+    /**
+     * Indique si une station est fermée
+     * @param station nom de la station
+     * @return vrai si la station est fermée
+     */
+    public boolean estFermee(String station) {
+        return this.noeudsFermes.get(indiceExistant(station));
+    }
+
+    /**
+     * Ferme ou rouvre un arc par son numéro
+     * @param arc numéro de l'arc (entre 0 et nbArcs()-1)
+     * @param ferme vrai pour fermer l'arc, faux pour le rouvrir
+     */
+    public void changerArc(int arc, boolean ferme) {
+        if (arc < 0 || arc >= nbArcs()) {
+            throw new IndexOutOfBoundsException("Numéro d'arc invalide : " + arc);
+        }
+        this.arcsFermes.set(arc, ferme);
+    }
+
+    /**
+     * Ferme tous les arcs allant d'un nœud à un autre
+     * @param depart nom du nœud de départ
+     * @param destination nom du nœud d'arrivée
+     * @return nombre d'arcs fermés
+     */
+    public int fermerArcs(String depart, String destination) {
+        return fermer(indiceExistant(depart), indiceExistant(destination), -1);
+    }
+
+    /**
+     * Ferme une ligne entre deux stations, dans les deux sens.
+     * Le tronçon fermé est le plus court (en nombre d'arcs) qui relie les deux stations
+     * en n'empruntant que cette ligne ; les stations restent ouvertes pour les autres lignes.
+     * @param ligne nom de la ligne
+     * @param x première station du tronçon
+     * @param y dernière station du tronçon
+     * @return nombre d'arcs fermés
+     * @throws IllegalArgumentException si la ligne est inconnue ou ne relie pas les deux stations
+     */
+    public int fermerLigneEntre(String ligne, String x, String y) {
+        int depart = indiceExistant(x);
+        int arrivee = indiceExistant(y);
+        int id = identifiantLigne(ligne);
+
+        // Parcours en largeur de x vers y en ne suivant que les arcs de la ligne
+        int[] precedent = new int[nbNoeuds()];
+        Arrays.fill(precedent, -1);
+        precedent[depart] = depart;
+        int[] file = new int[nbNoeuds()];
+        int fin = 0;
+        file[fin++] = depart;
+        for (int tete = 0; tete < fin && precedent[arrivee] == -1; tete++) {
+            int u = file[tete];
+            int[] ajoutes = {fin};
+            this.origine.pourChaqueSuivant(u, (v, c, l) -> {
+                if (precedent[v] == -1 && l == id) {
+                    precedent[v] = u;
+                    file[ajoutes[0]++] = v;
+                }
+            });
+            fin = ajoutes[0];
+        }
+        if (precedent[arrivee] == -1) {
+            throw new IllegalArgumentException("La ligne " + ligne + " ne relie pas " + x + " et " + y);
+        }
+
+        // Fermeture des arcs de la ligne le long du tronçon, dans les deux sens
+        int nbFermes = 0;
+        for (int v = arrivee; v != depart; v = precedent[v]) {
+            nbFermes += fermer(precedent[v], v, id);
+            nbFermes += fermer(v, precedent[v], id);
+        }
+        return nbFermes;
+    }
+
+    /**
+     * Ferme les arcs de u vers v, seulement ceux de la ligne d'identifiant donné s'il n'est pas -1
+     * @return nombre d'arcs fermés
+     */
+    private int fermer(int u, int v, int ligne) {
+        int[] k = {this.premierArc[u]};
+        int[] nbFermes = {0};
+        this.origine.pourChaqueSuivant(u, (dest, c, l) -> {
+            if (dest == v && (ligne == -1 || l == ligne)) {
+                this.arcsFermes.set(k[0]);
+                nbFermes[0]++;
+            }
+            k[0]++;
+        });
+        return nbFermes[0];
+    }
+
+    /**
+     * Rouvre tous les nœuds et tous les arcs
+     */
+    public void toutRouvrir() {
+        this.noeudsFermes.clear();
+        this.arcsFermes.clear();
+    }
+
+    /**
+     * Retourne l'identifiant d'une ligne qui doit exister, cherché une seule fois
+     * pour comparer ensuite des entiers plutôt que des noms
+     */
+    private int identifiantLigne(String ligne) {
+        for (int id = 0; id < this.origine.nbLignes(); id++) {
+            if (ligne.equals(this.origine.nomLigne(id))) {
+                return id;
+            }
+        }
+        throw new IllegalArgumentException("Ligne inexistante : " + ligne);
+    }
+
+    /**
+     * Retourne l'indice d'un nœud qui doit exister
+     */
+    private int indiceExistant(String n) {
+        int i = this.origine.indice(n);
+        if (i == -1) {
+            throw new IllegalArgumentException("Nœud inexistant : " + n);
+        }
+        return i;
+    }
+
+    @Override
+    public List<String> listeNoeuds() {
+        return this.origine.listeNoeuds();
+    }
+
+    @Override
+    public List<Arc> suivants(String n) {
+        List<Arc> res = new ArrayList<>();
+        int u = indice(n);
+        if (u != -1) {
+            pourChaqueSuivant(u, (v, c, l) -> res.add(new Arc(nom(v), c, nomLigne(l), l)));
+        }
+        return res;
+    }
+
+    @Override
+    public int nbNoeuds() {
+        return this.origine.nbNoeuds();
+    }
+
+    @Override
+    public int indice(String n) {
+        return this.origine.indice(n);
+    }
+
+    @Override
+    public String nom(int i) {
+        return this.origine.nom(i);
+    }
+
+    @Override
+    public String nomLigne(int ligne) {
+        return this.origine.nomLigne(ligne);
+    }
+
+    @Override
+    public int nbLignes() {
+        return this.origine.nbLignes();
+    }
+
+    @Override
+    public void pourChaqueSuivant(int u, VisiteurArc visiteur) {
+        if (this.noeudsFermes.get(u)) {
+            return;
+        }
+        if (this.arcsFermes.isEmpty() && this.noeudsFermes.isEmpty()) {
+            this.origine.pourChaqueSuivant(u, visiteur);
+            return;
+        }
+        // État du parcours englobant, si cet appel vient d'un visiteur de la même vue
+        int arc = this.filtre.arc;
+        VisiteurArc englobant = this.filtre.visiteur;
+        this.filtre.arc = this.premierArc[u];
+        this.filtre.visiteur = visiteur;
+        try {
+            this.origine.pourChaqueSuivant(u, this.filtre);
+        } finally {
+            this.filtre.arc = arc;
+            this.filtre.visiteur = englobant;
+        }
+    }
+
+    /**
+     * Visiteur ne transmettant que les arcs ouverts vers des nœuds ouverts
+     */
+    private class Filtre implements VisiteurArc {
+        private int arc; // Numéro de l'arc visité
+        private VisiteurArc visiteur;
+
+        @Override
+        public void visiter(int v, double cout, int ligne) {
+            if (!arcsFermes.get(this.arc) && !noeudsFermes.get(v)) {
+                this.visiteur.visiter(v, cout, ligne);
+            }
+            this.arc++;
+        }
+    }
+
+    /**
+     * Retourne la place occupée par la vue (numérotation des arcs et fermetures),
+     * sans compter le graphe d'origine
+     * @return nombre d'octets estimé
+     */
+    @Override
+    public long octetsUtilises() {
+        return Mesurable.objet(5) + Mesurable.objet(2) + Mesurable.tableau(this.premierArc.length, 4)
+               + 2 * Mesurable.objet(3) + Mesurable.tableau(this.noeudsFermes.size() / 64, 8)
+               + Mesurable.tableau(this.arcsFermes.size() / 64, 8);
+    }
+}
@@ -0,0 +1,215 @@
+package graphe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Implémentation de l'interface Graphe pour les réseaux dont toutes les connexions
+ * sont à double sens (métro, tramway...), où chaque arête n'est stockée qu'une fois.
+ *
+ * Une arête {a,b} est parcourue comme les deux arcs (a,b) et (b,a), avec le même coût
+ * et la même ligne. Ses deux extrémités sont stockées sous la forme a XOR b : depuis
+ * l'extrémité u, l'autre extrémité vaut (a XOR b) XOR u. Chaque nœud garde seulement
+ * la liste des numéros de ses arêtes.
+ *
+ * Les arêtes parallèles (mêmes extrémités, même ligne) sont fusionnées dès l'ajout,
+ * en gardant le plus petit coût.
+ */
+public class GrapheNonOriente implements Graphe, Mesurable {
+    // Attributs privés
+    private final TableNoms noeuds; // Noms des nœuds du graphe, avec leur indice
+    private final Lignes lignes; // Registre des lignes des arêtes
+    private int[] extremites = new int[16]; // a XOR b pour chaque arête
+    private double[] cout = new double[16];
+    private int[] ligne = new int[16];
+    private int nbAretes;
+    private int[][] incidence = new int[16][]; // Numéros des arêtes de chaque nœud
+    private int[] degre = new int[16]; // Nombre d'arêtes de chaque nœud
+    private final Positions positions = new Positions(); // Coordonnées des nœuds, si elles sont connues
+
+    /**
+     * Constructeur initialisant un graphe vide
+     */
+    public GrapheNonOriente() {
+        this(new Lignes());
+    }
+
+    /**
+     * Constructeur initialisant un graphe vide utilisant un registre de lignes existant
+     * @param lignes registre dans lequel sont enregistrées les lignes des arêtes
+     */
+    public GrapheNonOriente(Lignes lignes) {
+        this.noeuds = new TableNoms();
+        this.lignes = lignes;
+    }
+
+    /**
+     * Ajoute un nœud au graphe s'il n'existe pas déjà
+     * @param n nœud à ajouter
+     * @return indice du nœud
+     */
+    public int ajouterNoeud(String n) {
+        int indice = this.noeuds.ajouter(n);
+        if (indice == this.incidence.length) {
+            this.incidence = Arrays.copyOf(this.incidence, indice * 2);
+            this.degre = Arrays.copyOf(this.degre, indice * 2);
+        }
+        if (this.incidence[indice] == null) {
+            this.incidence[indice] = new int[2];
+        }
+        return indice;
+    }
+
+    /**
+     * Ajoute un nœud au graphe avec ses coordonnées, ou change les coordonnées d'un nœud existant
+     * @param n nœud à ajouter
+     * @param x abscisse du nœud
+     * @param y ordonnée du nœud
+     * @return indice du nœud
+     */
+    public int ajouterNoeud(String n, double x, double y) {
+        int indice = ajouterNoeud(n);
+        this.positions.definir(indice, x, y);
+        return indice;
+    }
+
+    /**
+     * Ajoute une arête entre deux nœuds, ou diminue le coût de l'arête existante
+     * entre ces nœuds sur la même ligne
+     * @param a première extrémité
+     * @param b seconde extrémité
+     * @param cout coût de l'arête
+     * @param ligne nom de la ligne (peut être null)
+     */
+    public void ajouterArete(String a, String b, double cout, String ligne) {
+        int u = ajouterNoeud(a);
+        int v = ajouterNoeud(b);
+        int l = this.lignes.enregistrer(ligne);
+
+        // Recherche d'une arête parallèle depuis l'extrémité de plus petit degré
+        int x = this.degre[u] <= this.degre[v] ? u : v;
+        for (int k = 0; k < this.degre[x]; k++) {
+            int e = this.incidence[x][k];
+            if (this.extremites[e] == (u ^ v) && this.ligne[e] == l) {
+                this.cout[e] = Math.min(this.cout[e], cout);
+                return;
+            }
+        }
+
+        if (this.nbAretes == this.extremites.length) {
+            int capacite = this.nbAretes * 2;
+            this.extremites = Arrays.copyOf(this.extremites, capacite);
+            this.cout = Arrays.copyOf(this.cout, capacite);
+            this.ligne = Arrays.copyOf(this.ligne, capacite);
+        }
+        int e = this.nbAretes++;
+        this.extremites[e] = u ^ v;
+        this.cout[e] = cout;
+        this.ligne[e] = l;
+        ajouterIncidence(u, e);
+        if (v != u) {
+            ajouterIncidence(v, e);
+        }
+    }
+
+    /**
+     * Ajoute l'arête e à la liste des arêtes du nœud u
+     */
+    private void ajouterIncidence(int u, int e) {
+        if (this.degre[u] == this.incidence[u].length) {
+            this.incidence[u] = Arrays.copyOf(this.incidence[u], this.degre[u] * 2);
+        }
+        this.incidence[u][this.degre[u]++] = e;
+    }
+
+    /**
+     * Retourne le nombre d'arêtes du graphe (chacune est parcourue dans les deux sens)
+     * @return nombre d'arêtes
+     */
+    public int nbAretes() {
+        return this.nbAretes;
+    }
+
+    /**
+     * Retourne le registre des lignes du graphe
+     * @return registre des lignes
+     */
+    public Lignes getLignes() {
+        return this.lignes;
+    }
+
+    /**
+     * Retourne les coordonnées des nœuds du graphe
+     * @return positions des nœuds (NaN pour les nœuds sans position)
+     */
+    public Positions getPositions() {
+        return this.positions;
+    }
+
+    @Override
+    public List<String> listeNoeuds() {
+        List<String> res = new ArrayList<>(this.noeuds.taille());
+        for (int i = 0; i < this.noeuds.taille(); i++) {
+            res.add(this.noeuds.nom(i));
+        }
+        return res;
+    }
+
+    @Override
+    public List<Arc> suivants(String n) {
+        List<Arc> res = new ArrayList<>();
+        int u = indice(n);
+        if (u != -1) {
+            pourChaqueSuivant(u, (v, c, l) -> res.add(new Arc(nom(v), c, nomLigne(l), l)));
+        }
+        return res;
+    }
+
+    @Override
+    public int nbNoeuds() {
+        return this.noeuds.taille();
+    }
+
+    @Override
+    public int indice(String n) {
+        return this.noeuds.indice(n);
+    }
+
+    @Override
+    public String nom(int i) {
+        return this.noeuds.nom(i);
+    }
+
+    @Override
+    public String nomLigne(int ligne) {
+        return this.lignes.nom(ligne);
+    }
+
+    @Override
+    public int nbLignes() {
+        return this.lignes.taille();
+    }
+
+    @Override
+    public void pourChaqueSuivant(int u, VisiteurArc visiteur) {
+        int[] aretes = this.incidence[u];
+        for (int k = 0; k < this.degre[u]; k++) {
+            int e = aretes[k];
+            visiteur.visiter(this.extremites[e] ^ u, this.cout[e], this.ligne[e]);
+        }
+    }
+
+    @Override
+    public long octetsUtilises() {
+        long octets = Mesurable.objet(9) + this.noeuds.octetsUtilises() + this.lignes.octetsUtilises()
+                      + this.positions.octetsUtilises()
+                      + Mesurable.tableau(this.extremites.length, 4) + Mesurable.tableau(this.cout.length, 8)
+                      + Mesurable.tableau(this.ligne.length, 4) + Mesurable.tableau(this.degre.length, 4)
+                      + Mesurable.tableau(this.incidence.length, 4);
+        for (int u = 0; u < this.noeuds.taille(); u++) {
+            octets += Mesurable.tableau(this.incidence[u].length, 4);
+        }
+        return octets;
+    }
+}
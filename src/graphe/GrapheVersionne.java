@@ -0,0 +1,471 @@
+package graphe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Graphe modifiable pendant que des recherches de chemins sont en cours.
+ *
+ * Le graphe est une suite de versions immuables. Les lecteurs récupèrent la version
+ * courante avec courante() et l'utilisent comme n'importe quel Graphe : elle ne change
+ * jamais, même si des modifications sont publiées pendant leur calcul, et sans verrou.
+ *
+ * Les écrivains préparent une Modification (changement de coût, ajout d'arc,
+ * fermeture de station) puis la publient : une nouvelle version est construite
+ * à partir de la dernière, en partageant avec elle toutes les pages d'arcs
+ * non modifiées, puis elle remplace atomiquement la version courante.
+ *
+ * Exemple :
+ *  GrapheVersionne reseau = new GrapheVersionne(LireReseau.lire(fichier));
+ *  // lecteurs
+ *  Valeurs v = new Dijkstra().resoudre(reseau.courante(), "Châtelet");
+ *  // écrivain
+ *  reseau.modifier().changerCout("Châtelet", "Cité", 60).fermerStation("Odéon").publier();
+ */
+public class GrapheVersionne {
+    /** Nombre de nœuds par page d'arcs : une modification recopie une seule page */
+    static final int TAILLE_PAGE = 64;
+
+    // Attribut privé
+    private final AtomicReference<Version> courante; // Dernière version publiée
+
+    /**
+     * Constructeur créant la première version à partir d'un graphe existant
+     * @param initial graphe recopié dans la version 0
+     */
+    public GrapheVersionne(Graphe initial) {
+        this.courante = new AtomicReference<>(Version.copier(initial));
+    }
+
+    /**
+     * Retourne la version courante du graphe, qui ne sera jamais modifiée
+     * @return version courante
+     */
+    public Version courante() {
+        return this.courante.get();
+    }
+
+    /**
+     * Commence une modification du graphe
+     * @return modification vide, à compléter puis à publier
+     */
+    public Modification modifier() {
+        return new Modification(this);
+    }
+
+    /**
+     * Applique des opérations à la dernière version et publie le résultat.
+     * Les publications sont faites l'une après l'autre, aucune n'est perdue.
+     * @param operations opérations à appliquer, dans l'ordre
+     * @return version publiée
+     */
+    private synchronized Version publier(List<Consumer<Version.Construction>> operations) {
+        Version.Construction construction = new Version.Construction(this.courante.get());
+        for (Consumer<Version.Construction> operation : operations) {
+            operation.accept(construction);
+        }
+        Version nouvelle = construction.construire();
+        this.courante.set(nouvelle);
+        return nouvelle;
+    }
+
+    /**
+     * Ensemble de modifications à publier en une seule nouvelle version.
+     * Les opérations sont enregistrées puis appliquées à la dernière version lors de publier().
+     */
+    public static class Modification {
+        private final GrapheVersionne graphe;
+        private final List<Consumer<Version.Construction>> operations;
+
+        private Modification(GrapheVersionne graphe) {
+            this.graphe = graphe;
+            this.operations = new ArrayList<>();
+        }
+
+        /**
+         * Change le coût de tous les arcs allant de depart à destination
+         * @param depart nom du nœud de départ
+         * @param destination nom du nœud d'arrivée
+         * @param cout nouveau coût
+         * @return cette modification
+         */
+        public Modification changerCout(String depart, String destination, double cout) {
+            this.operations.add(c -> c.changerCout(depart, destination, null, cout));
+            return this;
+        }
+
+        /**
+         * Change le coût des arcs allant de depart à destination sur une ligne donnée
+         * @param depart nom du nœud de départ
+         * @param destination nom du nœud d'arrivée
+         * @param ligne nom de la ligne
+         * @param cout nouveau coût
+         * @return cette modification
+         */
+        public Modification changerCout(String depart, String destination, String ligne, double cout) {
+            this.operations.add(c -> c.changerCout(depart, destination, ligne, cout));
+            return this;
+        }
+
+        /**
+         * Ajoute un arc, en créant les nœuds qui n'existent pas encore
+         * @param depart nom du nœud de départ
+         * @param destination nom du nœud d'arrivée
+         * @param cout coût de l'arc
+         * @param ligne nom de la ligne (peut être null)
+         * @return cette modification
+         */
+        public Modification ajouterArc(String depart, String destination, double cout, String ligne) {
+            this.operations.add(c -> c.ajouterArc(depart, destination, cout, ligne));
+            return this;
+        }
+
+        /**
+         * Ferme une station : plus aucun arc n'en part ni n'y arrive
+         * @param station nom de la station
+         * @return cette modification
+         */
+        public Modification fermerStation(String station) {
+            this.operations.add(c -> c.changerFermeture(station, true));
+            return this;
+        }
+
+        /**
+         * Rouvre une station fermée
+         * @param station nom de la station
+         * @return cette modification
+         */
+        public Modification rouvrirStation(String station) {
+            this.operations.add(c -> c.changerFermeture(station, false));
+            return this;
+        }
+
+        /**
+         * Applique les modifications à la dernière version et publie la nouvelle version
+         * @return version publiée
+         * @throws IllegalArgumentException si une opération porte sur un nœud ou un arc inexistant ;
+         *                                  dans ce cas aucune version n'est publiée
+         */
+        public Version publier() {
+            return this.graphe.publier(this.operations);
+        }
+    }
+
+    /**
+     * Version immuable du graphe.
+     *
+     * Les arcs sont rangés par pages de TAILLE_PAGE nœuds consécutifs, chaque page
+     * étant au format CSR. Deux versions successives partagent les pages non modifiées.
+     */
+    public static class Version implements Graphe, Mesurable {
+        private final int numero;
+        private final TableNoms noms;
+        private final Lignes lignes;
+        private final Page[] pages;
+        private final BitSet fermees; // Stations fermées
+
+        private Version(int numero, TableNoms noms, Lignes lignes, Page[] pages, BitSet fermees) {
+            this.numero = numero;
+            this.noms = noms;
+            this.lignes = lignes;
+            this.pages = pages;
+            this.fermees = fermees;
+        }
+
+        /**
+         * Recopie un graphe quelconque dans une version 0
+         */
+        private static Version copier(Graphe g) {
+            int n = g.nbNoeuds();
+            TableNoms noms = new TableNoms();
+            Lignes lignes = new Lignes();
+            for (int u = 0; u < n; u++) {
+                noms.ajouter(g.nom(u));
+            }
+            Page[] pages = new Page[(n + TAILLE_PAGE - 1) / TAILLE_PAGE];
+            for (int p = 0; p < pages.length; p++) {
+                pages[p] = new Page();
+                pages[p].remplir(g, p * TAILLE_PAGE, Math.min(n, (p + 1) * TAILLE_PAGE), lignes);
+            }
+            return new Version(0, noms.compacter(), lignes, pages, new BitSet());
+        }
+
+        /**
+         * Retourne le numéro de la version (0 pour la version initiale)
+         * @return numéro de version
+         */
+        public int numero() {
+            return this.numero;
+        }
+
+        /**
+         * Indique si une station est fermée dans cette version
+         * @param station nom de la station
+         * @return vrai si la station existe et est fermée
+         */
+        public boolean estFermee(String station) {
+            int i = indice(station);
+            return i != -1 && this.fermees.get(i);
+        }
+
+        @Override
+        public List<String> listeNoeuds() {
+            List<String> res = new ArrayList<>(nbNoeuds());
+            for (int i = 0; i < nbNoeuds(); i++) {
+                res.add(this.noms.nom(i));
+            }
+            return res;
+        }
+
+        @Override
+        public List<Arc> suivants(String n) {
+            List<Arc> res = new ArrayList<>();
+            int u = indice(n);
+            if (u != -1) {
+                pourChaqueSuivant(u, (v, cout, ligne) -> res.add(new Arc(nom(v), cout, nomLigne(ligne), ligne)));
+            }
+            return res;
+        }
+
+        @Override
+        public int nbNoeuds() {
+            return this.noms.taille();
+        }
+
+        @Override
+        public int indice(String n) {
+            return this.noms.indice(n);
+        }
+
+        @Override
+        public String nom(int i) {
+            return this.noms.nom(i);
+        }
+
+        @Override
+        public String nomLigne(int ligne) {
+            return this.lignes.nom(ligne);
+        }
+
+        @Override
+        public int nbLignes() {
+            return this.lignes.taille();
+        }
+
+        @Override
+        public void pourChaqueSuivant(int u, VisiteurArc visiteur) {
+            if (this.fermees.get(u)) {
+                return;
+            }
+            Page page = this.pages[u / TAILLE_PAGE];
+            int local = u % TAILLE_PAGE;
+            for (int k = page.debut[local]; k < page.debut[local + 1]; k++) {
+                if (!this.fermees.get(page.dest[k])) {
+                    visiteur.visiter(page.dest[k], page.cout[k], page.ligne[k]);
+                }
+            }
+        }
+
+        /**
+         * Retourne la place occupée par la version, y compris les pages qu'elle partage
+         * avec les autres versions
+         * @return nombre d'octets estimé
+         */
+        @Override
+        public long octetsUtilises() {
+            long octets = Mesurable.objet(5) + this.noms.octetsUtilises() + this.lignes.octetsUtilises()
+                          + Mesurable.tableau(this.pages.length, 4)
+                          + Mesurable.objet(3) + Mesurable.tableau(this.fermees.size() / 64, 8);
+            for (Page page : this.pages) {
+                octets += Mesurable.objet(4) + Mesurable.tableau(page.debut.length, 4)
+                          + Mesurable.tableau(page.dest.length, 4) + Mesurable.tableau(page.cout.length, 8)
+                          + Mesurable.tableau(page.ligne.length, 4);
+            }
+            return octets;
+        }
+
+        /**
+         * Construction d'une nouvelle version à partir d'une version existante.
+         * Les pages, les noms et les lignes ne sont recopiés qu'au moment de leur première modification.
+         */
+        private static class Construction {
+            private final Version base;
+            private TableNoms noms;
+            private Lignes lignes;
+            private Page[] pages;
+            private BitSet fermees;
+            private final BitSet pagesCopiees = new BitSet();
+            private boolean nomsCopies;
+            private boolean lignesCopiees;
+            private boolean fermeesCopiees;
+
+            private Construction(Version base) {
+                this.base = base;
+                this.noms = base.noms;
+                this.lignes = base.lignes;
+                this.pages = base.pages.clone(); // Seul le tableau des pages est recopié
+                this.fermees = base.fermees;
+            }
+
+            /** Retourne l'indice d'un nœud existant */
+            private int indiceExistant(String n) {
+                int i = this.noms.indice(n);
+                if (i == -1) {
+                    throw new IllegalArgumentException("Nœud inexistant : " + n);
+                }
+                return i;
+            }
+
+            /** Retourne l'indice d'un nœud, en le créant s'il n'existe pas */
+            private int indiceOuNouveau(String n) {
+                int i = this.noms.indice(n);
+                if (i == -1) {
+                    if (!this.nomsCopies) {
+                        this.noms = this.noms.compacter();
+                        this.nomsCopies = true;
+                    }
+                    i = this.noms.ajouter(n);
+                    if (i / TAILLE_PAGE == this.pages.length) {
+                        this.pages = Arrays.copyOf(this.pages, this.pages.length + 1);
+                        this.pages[this.pages.length - 1] = new Page();
+                        this.pagesCopiees.set(this.pages.length - 1);
+                    }
+                }
+                return i;
+            }
+
+            /** Retourne la page contenant le nœud u, recopiée si ce n'est pas déjà fait */
+            private Page pageModifiable(int u) {
+                int p = u / TAILLE_PAGE;
+                if (!this.pagesCopiees.get(p)) {
+                    this.pages[p] = this.pages[p].copier();
+                    this.pagesCopiees.set(p);
+                }
+                return this.pages[p];
+            }
+
+            private void changerCout(String depart, String destination, String ligne, double cout) {
+                int u = indiceExistant(depart);
+                int v = indiceExistant(destination);
+                int l = ligne == null ? -1 : this.lignes.identifiant(ligne);
+                if (ligne != null && l == -1) {
+                    throw new IllegalArgumentException("Ligne inexistante : " + ligne);
+                }
+                Page page = pageModifiable(u);
+                int local = u % TAILLE_PAGE;
+                boolean trouve = false;
+                for (int k = page.debut[local]; k < page.debut[local + 1]; k++) {
+                    if (page.dest[k] == v && (ligne == null || page.ligne[k] == l)) {
+                        page.cout[k] = cout;
+                        trouve = true;
+                    }
+                }
+                if (!trouve) {
+                    throw new IllegalArgumentException("Arc inexistant : " + depart + " -> " + destination);
+                }
+            }
+
+            private void ajouterArc(String depart, String destination, double cout, String ligne) {
+                int u = indiceOuNouveau(depart);
+                int v = indiceOuNouveau(destination);
+                if (ligne != null && this.lignes.identifiant(ligne) == -1 && !this.lignesCopiees) {
+                    Lignes copie = new Lignes();
+                    for (int id = 0; id < this.lignes.taille(); id++) {
+                        copie.enregistrer(this.lignes.nom(id));
+                    }
+                    this.lignes = copie;
+                    this.lignesCopiees = true;
+                }
+                pageModifiable(u).ajouterArc(u % TAILLE_PAGE, v, cout, this.lignes.enregistrer(ligne));
+            }
+
+            private void changerFermeture(String station, boolean fermee) {
+                int i = indiceExistant(station);
+                if (!this.fermeesCopiees) {
+                    this.fermees = (BitSet) this.fermees.clone();
+                    this.fermeesCopiees = true;
+                }
+                this.fermees.set(i, fermee);
+            }
+
+            private Version construire() {
+                return new Version(this.base.numero + 1, this.noms, this.lignes, this.pages, this.fermees);
+            }
+        }
+    }
+
+    /**
+     * Arcs de TAILLE_PAGE nœuds consécutifs au format CSR.
+     * Une page n'est plus modifiée une fois publiée dans une version.
+     */
+    private static class Page {
+        private int[] debut = new int[TAILLE_PAGE + 1]; // Premier arc de chaque nœud de la page
+        private int[] dest = new int[0];
+        private double[] cout = new double[0];
+        private int[] ligne = new int[0];
+
+        /** Retourne une copie modifiable de la page */
+        private Page copier() {
+            Page copie = new Page();
+            copie.debut = this.debut.clone();
+            copie.dest = this.dest.clone();
+            copie.cout = this.cout.clone();
+            copie.ligne = this.ligne.clone();
+            return copie;
+        }
+
+        /**
+         * Remplit une page vide avec les arcs des nœuds premier à fin-1 d'un graphe, en deux passes :
+         * nombre d'arcs de chaque nœud, puis copie des arcs dans des tableaux alloués une seule fois
+         */
+        private void remplir(Graphe g, int premier, int fin, Lignes lignes) {
+            for (int u = premier; u < fin; u++) {
+                int local = u - premier;
+                g.pourChaqueSuivant(u, (v, c, l) -> this.debut[local + 1]++);
+            }
+            for (int i = 0; i < TAILLE_PAGE; i++) {
+                this.debut[i + 1] += this.debut[i];
+            }
+            int nbArcs = this.debut[TAILLE_PAGE];
+            this.dest = new int[nbArcs];
+            this.cout = new double[nbArcs];
+            this.ligne = new int[nbArcs];
+            int[] k = {0};
+            for (int u = premier; u < fin; u++) {
+                g.pourChaqueSuivant(u, (v, c, l) -> {
+                    this.dest[k[0]] = v;
+                    this.cout[k[0]] = c;
+                    this.ligne[k[0]] = lignes.enregistrer(g.nomLigne(l));
+                    k[0]++;
+                });
+            }
+        }
+
+        /** Ajoute un arc à la fin des arcs du nœud local de la page (modification d'une version) */
+        private void ajouterArc(int local, int v, double c, int l) {
+            int position = this.debut[local + 1];
+            int nbArcs = this.debut[TAILLE_PAGE];
+            this.dest = inserer(this.dest, position, nbArcs, v);
+            this.ligne = inserer(this.ligne, position, nbArcs, l);
+            double[] nouveauxCouts = Arrays.copyOf(this.cout, nbArcs + 1);
+            System.arraycopy(this.cout, position, nouveauxCouts, position + 1, nbArcs - position);
+            nouveauxCouts[position] = c;
+            this.cout = nouveauxCouts;
+            for (int i = local + 1; i <= TAILLE_PAGE; i++) {
+                this.debut[i]++;
+            }
+        }
+
+        /** Retourne une copie du tableau avec une case de plus, contenant valeur à la position donnée */
+        private static int[] inserer(int[] t, int position, int taille, int valeur) {
+            int[] res = Arrays.copyOf(t, taille + 1);
+            System.arraycopy(t, position, res, position + 1, taille - position);
+            res[position] = valeur;
+            return res;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package graphe;
+
+/**
+ * Estimation du coût restant pour aller d'un nœud à l'arrivée, utilisée par AEtoile
+ * pour explorer d'abord les nœuds qui semblent mener vers l'arrivée.
+ *
+ * Pour que AEtoile trouve le plus court chemin, l'estimation ne doit jamais dépasser
+ * le vrai coût restant (heuristique admissible). Si de plus estimer(u) <= cout(u,v) + estimer(v)
+ * pour chaque arc (heuristique cohérente), chaque nœud n'est traité qu'une fois.
+ */
+@FunctionalInterface
+public interface Heuristique {
+
+    /**
+     * Estime le coût du plus court chemin d'un nœud à l'arrivée
+     * @param u indice du nœud
+     * @param arrivee indice du nœud d'arrivée
+     * @return minorant du coût restant (0 si on ne sait rien),
+     *         Double.POSITIVE_INFINITY si l'arrivée est sûrement inaccessible depuis u
+     */
+    public double estimer(int u, int arrivee);
+}
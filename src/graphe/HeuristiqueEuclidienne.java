@@ -0,0 +1,117 @@
+package graphe;
+
+import java.util.Arrays;
+
+/**
+ * Heuristique à vol d'oiseau : distance en ligne droite jusqu'à l'arrivée,
+ * divisée par la vitesse maximale du réseau.
+ *
+ * La vitesse maximale est la plus grande valeur de distance(u,v) / cout(u,v) sur tous les arcs
+ * du graphe : aucun trajet ne peut aller plus vite, donc l'estimation ne dépasse jamais
+ * le vrai coût (en temps) restant. Elle est aussi cohérente, par l'inégalité triangulaire.
+ *
+ * Un nœud sans position, ou une arrivée sans position, est estimé à 0. Un trajet peut alors
+ * relier deux nœuds positionnés en passant par des nœuds sans position : la vitesse maximale
+ * tient aussi compte de ces détours, en divisant la distance entre leurs extrémités par le coût
+ * du plus court détour. L'estimation reste admissible, mais n'est plus forcément cohérente
+ * (AEtoile remet alors dans la file les nœuds améliorés).
+ */
+public class HeuristiqueEuclidienne implements Heuristique {
+    // Attributs privés
+    private final Positions positions;
+    private final double vitesseMax; // Distance parcourue par unité de coût, au plus
+
+    /**
+     * Constructeur calculant la vitesse maximale d'un graphe
+     * @param g graphe dont les coûts sont des temps (ou toute grandeur croissant avec la distance)
+     * @param positions coordonnées des nœuds de g
+     */
+    public HeuristiqueEuclidienne(Graphe g, Positions positions) {
+        this.positions = positions;
+        Detour detour = new Detour(g.nbNoeuds(), positions);
+        for (int u = 0; u < g.nbNoeuds(); u++) {
+            if (positions.estConnue(u)) {
+                detour.parcourir(g, u);
+            }
+        }
+        this.vitesseMax = detour.max;
+    }
+
+    /**
+     * Recherche de Dijkstra depuis un nœud positionné, qui ne traverse que des nœuds sans position
+     * et relève la vitesse de chaque trajet arrivant sur un nœud positionné (un arc direct
+     * entre deux nœuds positionnés est le trajet le plus simple)
+     */
+    private static class Detour implements VisiteurArc {
+        private final Positions positions;
+        private final double[] cout; // Coût depuis la source, infini si le nœud n'est pas atteint
+        private final int[] atteints; // Nœuds atteints depuis la source, à remettre à l'infini ensuite
+        private int nbAtteints;
+        private final FilePriorite file;
+        private int source;
+        private double base; // Coût du nœud en cours de traitement
+        private double max; // Plus grande vitesse relevée
+
+        private Detour(int n, Positions positions) {
+            this.positions = positions;
+            this.cout = new double[n];
+            Arrays.fill(this.cout, Double.POSITIVE_INFINITY);
+            this.atteints = new int[n];
+            this.file = new TasDAire(n, 4);
+        }
+
+        /** Parcourt les détours partant du nœud positionné u */
+        private void parcourir(Graphe g, int u) {
+            this.source = u;
+            this.base = 0;
+            this.nbAtteints = 0;
+            g.pourChaqueSuivant(u, this);
+            while (!this.file.estVide()) {
+                int x = this.file.extraireMin();
+                this.base = this.cout[x];
+                g.pourChaqueSuivant(x, this);
+            }
+            for (int k = 0; k < this.nbAtteints; k++) {
+                this.cout[this.atteints[k]] = Double.POSITIVE_INFINITY;
+            }
+        }
+
+        @Override
+        public void visiter(int v, double c, int l) {
+            double valeur = this.base + c;
+            if (this.positions.estConnue(v)) {
+                // Fin du trajet : il n'est pas prolongé au-delà d'un nœud positionné
+                double distance = this.positions.distance(this.source, v);
+                if (distance > 0) {
+                    // Un trajet de coût nul entre deux positions distinctes rend toute estimation impossible
+                    this.max = Math.max(this.max, valeur > 0 ? distance / valeur : Double.POSITIVE_INFINITY);
+                }
+            } else if (valeur < this.cout[v]) {
+                if (this.cout[v] == Double.POSITIVE_INFINITY) {
+                    this.atteints[this.nbAtteints++] = v;
+                    this.file.inserer(v, valeur);
+                } else {
+                    this.file.diminuer(v, valeur);
+                }
+                this.cout[v] = valeur;
+            }
+        }
+    }
+
+    /**
+     * Retourne la vitesse maximale du réseau
+     * @return plus grande distance parcourue par unité de coût sur un arc
+     */
+    public double getVitesseMax() {
+        return this.vitesseMax;
+    }
+
+    @Override
+    public double estimer(int u, int arrivee) {
+        if (this.vitesseMax == 0 || this.vitesseMax == Double.POSITIVE_INFINITY
+                || !this.positions.estConnue(u) || !this.positions.estConnue(arrivee)) {
+            return 0;
+        }
+        return this.positions.distance(u, arrivee) / this.vitesseMax;
+    }
+}
@@ -0,0 +1,294 @@
+package graphe;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Index spatial des nœuds d'un graphe, pour trouver les stations proches d'un point quelconque
+ * sans parcourir toute la liste des nœuds.
+ *
+ * L'index est un arbre k-d implicite : les nœuds positionnés sont rangés dans un tableau, la racine
+ * d'une plage [debut, fin[ est l'élément du milieu, les nœuds plus à gauche (ou plus bas selon la
+ * profondeur) avant lui et les autres après. Une recherche ne visite que les plages qui peuvent
+ * contenir un nœud plus proche que le plus éloigné des résultats déjà trouvés : O(log n) en moyenne
+ * pour les k plus proches voisins.
+ *
+ * Les nœuds sans position sont ignorés. Les coordonnées sont celles de Positions : une position GPS
+ * doit être projetée dans le repère du plan avant la recherche.
+ */
+public class IndexSpatial {
+    // Attributs privés
+    private final Graphe graphe;
+    private final int[] noeuds; // Indices des nœuds, dans l'ordre de l'arbre
+    private final double[] x; // Coordonnées des nœuds, dans l'ordre de l'arbre
+    private final double[] y;
+
+    /**
+     * Constructeur indexant les nœuds positionnés d'un graphe
+     * @param g graphe
+     * @param positions coordonnées des nœuds de g
+     */
+    public IndexSpatial(Graphe g, Positions positions) {
+        this.graphe = g;
+        int n = 0;
+        for (int u = 0; u < g.nbNoeuds(); u++) {
+            if (positions.estConnue(u)) {
+                n++;
+            }
+        }
+        this.noeuds = new int[n];
+        this.x = new double[n];
+        this.y = new double[n];
+        int k = 0;
+        for (int u = 0; u < g.nbNoeuds(); u++) {
+            if (positions.estConnue(u)) {
+                this.noeuds[k] = u;
+                this.x[k] = positions.x(u);
+                this.y[k] = positions.y(u);
+                k++;
+            }
+        }
+        construire(0, n, 0);
+    }
+
+    /**
+     * Range la plage [debut, fin[ en arbre : médiane au milieu selon l'axe (0 pour x, 1 pour y),
+     * puis chaque moitié selon l'autre axe
+     */
+    private void construire(int debut, int fin, int axe) {
+        if (fin - debut <= 1) {
+            return;
+        }
+        int milieu = (debut + fin) >>> 1;
+        selectionner(debut, fin - 1, milieu, axe == 0 ? this.x : this.y);
+        construire(debut, milieu, 1 - axe);
+        construire(milieu + 1, fin, 1 - axe);
+    }
+
+    /**
+     * Place en position k l'élément qui y serait si la plage [gauche, droite] était triée selon coord,
+     * les plus petits avant lui et les plus grands après (sélection rapide de Hoare)
+     */
+    private void selectionner(int gauche, int droite, int k, double[] coord) {
+        while (gauche < droite) {
+            double pivot = coord[(gauche + droite) >>> 1];
+            int i = gauche;
+            int j = droite;
+            while (i <= j) {
+                while (coord[i] < pivot) {
+                    i++;
+                }
+                while (coord[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    echanger(i++, j--);
+                }
+            }
+            if (k <= j) {
+                droite = j;
+            } else if (k >= i) {
+                gauche = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void echanger(int i, int j) {
+        int n = this.noeuds[i];
+        this.noeuds[i] = this.noeuds[j];
+        this.noeuds[j] = n;
+        double t = this.x[i];
+        this.x[i] = this.x[j];
+        this.x[j] = t;
+        t = this.y[i];
+        this.y[i] = this.y[j];
+        this.y[j] = t;
+    }
+
+    /**
+     * Retourne le nombre de nœuds indexés
+     * @return nombre de nœuds ayant une position
+     */
+    public int taille() {
+        return this.noeuds.length;
+    }
+
+    /**
+     * Retourne le nœud le plus proche d'un point
+     * @param px abscisse du point
+     * @param py ordonnée du point
+     * @return indice du nœud le plus proche, -1 si aucun nœud n'a de position
+     */
+    public int plusProche(double px, double py) {
+        int[] res = plusProches(px, py, 1);
+        return res.length == 0 ? -1 : res[0];
+    }
+
+    /**
+     * Retourne le nom de la station la plus proche d'un point
+     * @param px abscisse du point
+     * @param py ordonnée du point
+     * @return nom du nœud le plus proche, null si aucun nœud n'a de position
+     */
+    public String stationLaPlusProche(double px, double py) {
+        int u = plusProche(px, py);
+        return u == -1 ? null : this.graphe.nom(u);
+    }
+
+    /**
+     * Retourne les k nœuds les plus proches d'un point
+     * @param px abscisse du point
+     * @param py ordonnée du point
+     * @param k nombre de nœuds cherchés
+     * @return indices d'au plus k nœuds, du plus proche au plus éloigné
+     */
+    public int[] plusProches(double px, double py, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Nombre de voisins négatif : " + k);
+        }
+        Voisins voisins = new Voisins(Math.min(k, this.noeuds.length));
+        if (voisins.capacite() > 0) {
+            chercher(0, this.noeuds.length, 0, px, py, voisins);
+        }
+        return voisins.trier();
+    }
+
+    /**
+     * Parcours de l'arbre pour les k plus proches voisins : la moitié contenant le point d'abord,
+     * l'autre seulement si elle peut contenir un nœud plus proche que le k-ième trouvé
+     */
+    private void chercher(int debut, int fin, int axe, double px, double py, Voisins voisins) {
+        if (debut >= fin) {
+            return;
+        }
+        int milieu = (debut + fin) >>> 1;
+        double dx = this.x[milieu] - px;
+        double dy = this.y[milieu] - py;
+        voisins.proposer(milieu, dx * dx + dy * dy);
+
+        double ecart = axe == 0 ? px - this.x[milieu] : py - this.y[milieu];
+        if (ecart < 0) {
+            chercher(debut, milieu, 1 - axe, px, py, voisins);
+            if (ecart * ecart < voisins.pire()) {
+                chercher(milieu + 1, fin, 1 - axe, px, py, voisins);
+            }
+        } else {
+            chercher(milieu + 1, fin, 1 - axe, px, py, voisins);
+            if (ecart * ecart < voisins.pire()) {
+                chercher(debut, milieu, 1 - axe, px, py, voisins);
+            }
+        }
+    }
+
+    /**
+     * Retourne les nœuds situés à une distance au plus égale à un rayon d'un point
+     * @param px abscisse du point
+     * @param py ordonnée du point
+     * @param rayon distance maximale
+     * @return indices des nœuds trouvés, du plus proche au plus éloigné
+     */
+    public int[] dansRayon(double px, double py, double rayon) {
+        List<Integer> trouves = new ArrayList<>();
+        chercherRayon(0, this.noeuds.length, 0, px, py, rayon * rayon, trouves);
+        Voisins voisins = new Voisins(trouves.size());
+        for (int i : trouves) {
+            double dx = this.x[i] - px;
+            double dy = this.y[i] - py;
+            voisins.proposer(i, dx * dx + dy * dy);
+        }
+        return voisins.trier();
+    }
+
+    /**
+     * Parcours de l'arbre pour la recherche dans un rayon : une moitié n'est visitée
+     * que si la droite de séparation est à moins du rayon
+     */
+    private void chercherRayon(int debut, int fin, int axe, double px, double py, double rayon2, List<Integer> trouves) {
+        if (debut >= fin) {
+            return;
+        }
+        int milieu = (debut + fin) >>> 1;
+        double dx = this.x[milieu] - px;
+        double dy = this.y[milieu] - py;
+        if (dx * dx + dy * dy <= rayon2) {
+            trouves.add(milieu);
+        }
+        double ecart = axe == 0 ? px - this.x[milieu] : py - this.y[milieu];
+        if (ecart <= 0 || ecart * ecart <= rayon2) {
+            chercherRayon(debut, milieu, 1 - axe, px, py, rayon2, trouves);
+        }
+        if (ecart >= 0 || ecart * ecart <= rayon2) {
+            chercherRayon(milieu + 1, fin, 1 - axe, px, py, rayon2, trouves);
+        }
+    }
+
+    /**
+     * Meilleurs candidats d'une recherche : tas binaire dont la racine est le plus éloigné,
+     * pour le remplacer en O(log k) quand on trouve plus proche
+     */
+    private class Voisins {
+        private final int[] positions; // Positions dans l'arbre des candidats
+        private final double[] distances; // Carré de la distance au point de chaque candidat
+        private int taille;
+
+        private Voisins(int capacite) {
+            this.positions = new int[capacite];
+            this.distances = new double[capacite];
+        }
+
+        private int capacite() {
+            return this.positions.length;
+        }
+
+        /** Retourne le carré de la distance du pire candidat, infini tant que le tas n'est pas plein */
+        private double pire() {
+            return this.taille < this.positions.length ? Double.POSITIVE_INFINITY : this.distances[0];
+        }
+
+        private void proposer(int position, double distance) {
+            if (this.taille < this.positions.length) {
+                int i = this.taille++;
+                while (i > 0 && this.distances[(i - 1) / 2] < distance) {
+                    this.positions[i] = this.positions[(i - 1) / 2];
+                    this.distances[i] = this.distances[(i - 1) / 2];
+                    i = (i - 1) / 2;
+                }
+                this.positions[i] = position;
+                this.distances[i] = distance;
+            } else if (distance < this.distances[0]) {
+                descendre(position, distance, this.taille);
+            }
+        }
+
+        /** Remplace la racine par un candidat et le fait descendre dans les taille premières cases */
+        private void descendre(int position, double distance, int taille) {
+            int i = 0;
+            while (2 * i + 1 < taille) {
+                int f = 2 * i + 1;
+                if (f + 1 < taille && this.distances[f + 1] > this.distances[f]) {
+                    f++;
+                }
+                if (this.distances[f] <= distance) {
+                    break;
+                }
+                this.positions[i] = this.positions[f];
+                this.distances[i] = this.distances[f];
+                i = f;
+            }
+            this.positions[i] = position;
+            this.distances[i] = distance;
+        }
+
+        /** Vide le tas et retourne les indices des nœuds, du plus proche au plus éloigné */
+        private int[] trier() {
+            int[] res = new int[this.taille];
+            for (int n = this.taille; n > 0; n--) {
+                res[n - 1] = noeuds[this.positions[0]];
+                descendre(this.positions[n - 1], this.distances[n - 1], n - 1);
+            }
+            return res;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package graphe;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registre des lignes d'un réseau : associe à chaque nom de ligne
+ * ("1", "3bis", "7"...) un identifiant entier.
+ *
+ * Les identifiants sont attribués dans l'ordre d'enregistrement à partir de 0,
+ * et -1 représente l'absence de ligne. Comparer deux lignes revient ainsi
+ * à comparer deux entiers.
+ */
+public class Lignes implements Mesurable {
+    // Attributs privés
+    private List<String> noms; // Nom de chaque ligne, indexé par identifiant
+    private Map<String, Integer> identifiants; // Nom de la ligne -> identifiant
+
+    /**
+     * Constructeur initialisant un registre vide
+     */
+    public Lignes() {
+        this.noms = new ArrayList<>();
+        this.identifiants = new HashMap<>();
+    }
+
+    /**
+     * Enregistre une ligne si elle n'est pas encore connue
+     * @param ligne nom de la ligne (peut être null)
+     * @return identifiant de la ligne, -1 si la ligne est null
+     */
+    public int enregistrer(String ligne) {
+        if (ligne == null) {
+            return -1;
+        }
+        Integer id = this.identifiants.get(ligne);
+        if (id == null) {
+            id = this.noms.size();
+            this.noms.add(ligne);
+            this.identifiants.put(ligne, id);
+        }
+        return id;
+    }
+
+    /**
+     * Retourne l'identifiant d'une ligne déjà enregistrée
+     * @param ligne nom de la ligne
+     * @return identifiant de la ligne, -1 si elle est inconnue ou null
+     */
+    public int identifiant(String ligne) {
+        Integer id = ligne == null ? null : this.identifiants.get(ligne);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Retourne le nom de la ligne d'identifiant donné
+     * @param id identifiant de la ligne
+     * @return nom de la ligne, null si id vaut -1
+     */
+    public String nom(int id) {
+        return id == -1 ? null : this.noms.get(id);
+    }
+
+    /**
+     * Retourne le nombre de lignes enregistrées
+     * @return nombre de lignes
+     */
+    public int taille() {
+        return this.noms.size();
+    }
+
+    /**
+     * Retourne la place occupée par le registre
+     * @return nombre d'octets estimé (pour chaque ligne : son nom, une case de liste et une entrée de HashMap)
+     */
+    @Override
+    public long octetsUtilises() {
+        long octets = Mesurable.objet(2) + Mesurable.tableau(this.noms.size(), 4) + Mesurable.tableau(2L * this.noms.size(), 4);
+        for (String nom : this.noms) {
+            octets += Mesurable.chaine(nom) + Mesurable.objet(4) + Mesurable.objet(1);
+        }
+        return octets;
+    }
+}
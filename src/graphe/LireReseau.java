@@ -14,11 +14,29 @@ public class LireReseau {
 
     /**
      * Lit un fichier de métro et construit le graphe associé.
+     * Les lignes sont enregistrées dans un registre Lignes au fil de la lecture,
+     * dans l'ordre où elles apparaissent dans la liste des stations.
+     * Chaque connexion donne deux arcs, un dans chaque sens ; les connexions répétées
+     * dans le fichier sont fusionnées (voir GrapheListe.normaliser()).
+     * Les coordonnées des stations sont gardées dans GrapheListe.getPositions().
      * @param fichier Chemin du fichier texte
-     * @return Graphe du réseau
+     * @return Graphe du réseau (un GrapheListe)
      */
     public static Graphe lire(String fichier) {
-        GrapheListe graphe = new GrapheListe();
+        return lire(fichier, false);
+    }
+
+    /**
+     * Lit un fichier de métro et construit le graphe associé.
+     * @param fichier Chemin du fichier texte
+     * @param nonOriente si vrai, chaque connexion est stockée une seule fois dans un GrapheNonOriente,
+     *                   sinon elle donne deux arcs dans un GrapheListe
+     * @return Graphe du réseau, avec les coordonnées des stations (voir getPositions())
+     */
+    public static Graphe lire(String fichier, boolean nonOriente) {
+        Lignes lignes = new Lignes();
+        GrapheListe graphe = nonOriente ? null : new GrapheListe(lignes);
+        GrapheNonOriente aretes = nonOriente ? new GrapheNonOriente(lignes) : null;
         Map<Integer, String> idVersNom = new HashMap<>();
         boolean lectureStations = false;
         boolean lectureConnexions = false;
@@ -57,7 +75,26 @@ public class LireReseau {
                             int id = Integer.parseInt(parts[0].trim());
                             String nom = parts[1].trim();
                             idVersNom.put(id, nom);
-                            graphe.ajouterNoeud(nom); // ajout simple du nœud
+                            // ajout du nœud, avec ses coordonnées sur le plan si elles sont lisibles
+                            double[] xy = parts.length >= 4 ? lireCoordonnees(parts[2], parts[3]) : null;
+                            if (xy == null && parts.length >= 4) {
+                                System.err.println("Coordonnées invalides, station sans position : " + ligne);
+                            }
+                            if (nonOriente && xy != null) {
+                                aretes.ajouterNoeud(nom, xy[0], xy[1]);
+                            } else if (nonOriente) {
+                                aretes.ajouterNoeud(nom);
+                            } else if (xy != null) {
+                                graphe.ajouterNoeud(nom, xy[0], xy[1]);
+                            } else {
+                                graphe.ajouterNoeud(nom);
+                            }
+                            if (parts.length == 5) {
+                                // Lignes desservant la station, séparées par des virgules
+                                for (String ligneStation : parts[4].split(",")) {
+                                    lignes.enregistrer(ligneStation.trim());
+                                }
+                            }
                         } catch (NumberFormatException e) {
                             System.err.println("Erreur ID station invalide : " + ligne);
                         }
@@ -78,7 +115,10 @@ public class LireReseau {
                             String nom1 = idVersNom.get(id1);
                             String nom2 = idVersNom.get(id2);
 
-                            if (nom1 != null && nom2 != null) {
+                            if (nom1 != null && nom2 != null && nonOriente) {
+                                // une seule arête, parcourue dans les deux sens
+                                aretes.ajouterArete(nom1, nom2, cout, ligneMetro);
+                            } else if (nom1 != null && nom2 != null) {
                                 // arcs bidirectionnels avec info ligne
                                 graphe.ajouterArc(nom1, nom2, cout, ligneMetro);
                                 graphe.ajouterArc(nom2, nom1, cout, ligneMetro);
@@ -97,7 +137,27 @@ public class LireReseau {
             System.err.println("Erreur de lecture du fichier : " + e.getMessage());
         }
 
+        if (nonOriente) {
+            System.out.println("✅ Chargement terminé. Nombre de stations : " + aretes.nbNoeuds());
+            return aretes;
+        }
+        // Fusion des connexions répétées dans le fichier
+        graphe.normaliser();
         System.out.println("✅ Chargement terminé. Nombre de stations : " + graphe.listeNoeuds().size());
         return graphe;
     }
+
+    /**
+     * Lit les coordonnées d'une station
+     * @param x abscisse sous forme de texte
+     * @param y ordonnée sous forme de texte
+     * @return tableau {x, y}, ou null si les coordonnées ne sont pas des nombres
+     */
+    private static double[] lireCoordonnees(String x, String y) {
+        try {
+            return new double[] {Double.parseDouble(x.trim()), Double.parseDouble(y.trim())};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 }
@@ -19,7 +19,8 @@ public class MainMetro {
     /**
      * Point d'entrée de l'application.
      *
-     * @param args Arguments de la ligne de commande (non utilisés ici)
+     * @param args Arguments de la ligne de commande : chemin du plan du réseau
+     *             (graphe/Grp/plan-reseau.txt par défaut)
      *
      * Étapes principales :
      *  Charge un graphe depuis un fichier de plan de réseau
@@ -28,7 +29,7 @@ public class MainMetro {
      *  Affiche les chemins trouvés et les temps d’exécution associés
      */
     public static void main(String[] args) {
-        Graphe g = LireReseau.lire("graphe/Grp/plan-reseau.txt");
+        Graphe g = LireReseau.lire(args.length > 0 ? args[0] : "graphe/Grp/plan-reseau.txt");
         // Liste des trajets de test entre stations du réseau
         String[][] trajets = {
             {"Châtelet", "Nation"},
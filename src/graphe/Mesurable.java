@@ -0,0 +1,56 @@
+package graphe;
+
+/**
+ * Structure capable d'estimer la place qu'elle occupe en mémoire.
+ *
+ * Les tailles sont calculées pour une JVM 64 bits avec références compressées :
+ * 16 octets d'en-tête par tableau, 12 par objet, et chaque objet arrondi à un multiple de 8 octets.
+ */
+public interface Mesurable {
+
+    /**
+     * Retourne la place occupée en mémoire par la structure et les données qui lui appartiennent
+     * @return nombre d'octets estimé
+     */
+    public long octetsUtilises();
+
+    /**
+     * Retourne la place occupée par un tableau
+     * @param longueur nombre de cases du tableau
+     * @param tailleElement taille d'une case en octets (4 pour un int ou une référence, 8 pour un double...)
+     * @return nombre d'octets
+     */
+    public static long tableau(long longueur, int tailleElement) {
+        return arrondir(16 + longueur * tailleElement);
+    }
+
+    /**
+     * Retourne la place occupée par un objet ne contenant que des champs simples
+     * @param nbChamps nombre de champs de 4 octets (int, float, référence) ; un long ou un double compte pour 2
+     * @return nombre d'octets
+     */
+    public static long objet(int nbChamps) {
+        return arrondir(12 + 4L * nbChamps);
+    }
+
+    /**
+     * Retourne la place occupée par une chaîne de caractères (objet String et son tableau d'octets)
+     * @param s chaîne (peut être null)
+     * @return nombre d'octets
+     */
+    public static long chaine(String s) {
+        if (s == null) {
+            return 0;
+        }
+        // Les chaînes latines sont stockées sur 1 octet par caractère, les autres sur 2
+        boolean latin = s.chars().allMatch(c -> c < 256);
+        return objet(3) + tableau(s.length(), latin ? 1 : 2);
+    }
+
+    /**
+     * Arrondit une taille au multiple de 8 supérieur
+     */
+    private static long arrondir(long octets) {
+        return (octets + 7) & ~7L;
+    }
+}
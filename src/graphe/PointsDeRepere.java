@@ -0,0 +1,337 @@
+package graphe;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Heuristique ALT (A*, Landmarks, Triangle inequality) : des distances précalculées depuis et vers
+ * quelques nœuds de repère donnent un minorant du coût restant, sur n'importe quel graphe,
+ * même sans coordonnées.
+ *
+ * Pour un repère L, l'inégalité triangulaire donne :
+ *  d(u,t) >= d(L,t) - d(L,u)   et   d(u,t) >= d(u,L) - d(t,L)
+ * L'estimation est le plus grand de ces minorants sur tous les repères. Elle est cohérente,
+ * donc AEtoile ne traite chaque nœud qu'une fois.
+ *
+ * Les repères sont choisis « au plus loin » : chaque nouveau repère est le nœud le plus éloigné
+ * (aller + retour) des repères déjà choisis, pour qu'ils soient à la périphérie du réseau
+ * dans des directions différentes.
+ *
+ * Le précalcul coûte deux Dijkstra complets par repère. Les tables peuvent être sauvegardées
+ * à côté du graphe : elles portent l'empreinte du graphe et ne sont rechargées que pour
+ * le même graphe (voir chargerOuCalculer()).
+ *
+ * Format du fichier (DataOutputStream, gros-boutiste) :
+ *  MAGIQUE, VERSION, nbNoeuds, nbReperes (entiers), empreinte du graphe (long)
+ *  reperes : int[nbReperes]
+ *  avant, arriere : double[nbNoeuds * nbReperes]
+ *  somme de contrôle CRC32 de tout ce qui précède (long)
+ */
+public class PointsDeRepere implements Heuristique, Mesurable {
+    /** Valeur des 4 premiers octets d'un fichier de repères ("LMRK") */
+    public static final int MAGIQUE = 0x4c4d524b;
+    /** Version du format écrite par cette classe */
+    public static final int VERSION = 1;
+
+    // Attributs privés
+    private final int nbNoeuds;
+    private final int[] reperes; // Indice de chaque repère
+    private final double[] avant; // d(repère i, u) en case u * nbReperes + i, infini si inaccessible
+    private final double[] arriere; // d(u, repère i) en case u * nbReperes + i, infini si inaccessible
+    private final long empreinte; // Empreinte du graphe pour lequel les distances ont été calculées
+
+    private PointsDeRepere(int nbNoeuds, int[] reperes, double[] avant, double[] arriere, long empreinte) {
+        this.nbNoeuds = nbNoeuds;
+        this.reperes = reperes;
+        this.avant = avant;
+        this.arriere = arriere;
+        this.empreinte = empreinte;
+    }
+
+    /**
+     * Choisit des repères et calcule leurs distances
+     * @param g graphe (coûts positifs)
+     * @param nbReperes nombre de repères (réduit au nombre de nœuds si besoin)
+     * @return heuristique ALT pour ce graphe
+     */
+    public static PointsDeRepere calculer(Graphe g, int nbReperes) {
+        if (nbReperes < 1) {
+            throw new IllegalArgumentException("Il faut au moins un repère : " + nbReperes);
+        }
+        int n = g.nbNoeuds();
+        int k = Math.min(nbReperes, n);
+        if (n == 0) {
+            return new PointsDeRepere(0, new int[0], new double[0], new double[0], empreinte(g));
+        }
+        if ((long) n * k > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Trop de distances à calculer : " + n + " nœuds x " + k + " repères");
+        }
+        GrapheInverse inverse = new GrapheInverse(g);
+        DijkstraTas dijkstra = new DijkstraTas();
+        int[] reperes = new int[k];
+        double[] avant = new double[n * k];
+        double[] arriere = new double[n * k];
+
+        // Éloignement de chaque nœud aux repères déjà choisis : min sur les repères de d(L,u) + d(u,L).
+        // Le premier repère est le plus éloigné du nœud 0. Un éloignement infini (nœud sans aller-retour
+        // possible avec les repères, comme une impasse) ne compte pas comme le plus éloigné : un tel
+        // nœud n'est choisi que s'il ne reste plus aucun candidat à distance finie.
+        double[] eloignement = allerRetour(g, inverse, dijkstra, 0, null, null, 0, 0);
+        for (int i = 0; i < k; i++) {
+            int repere = -1;
+            int horsDePortee = -1;
+            for (int u = 0; u < n; u++) {
+                if (eloignement[u] == Double.POSITIVE_INFINITY) {
+                    if (horsDePortee == -1) {
+                        horsDePortee = u;
+                    }
+                } else if (eloignement[u] >= 0 && (repere == -1 || eloignement[u] > eloignement[repere])) {
+                    repere = u;
+                }
+            }
+            if (repere == -1) {
+                repere = horsDePortee;
+            }
+            reperes[i] = repere;
+            double[] distances = allerRetour(g, inverse, dijkstra, repere, avant, arriere, i, k);
+            for (int u = 0; u < n; u++) {
+                eloignement[u] = i == 0 ? distances[u] : Math.min(eloignement[u], distances[u]);
+            }
+            eloignement[repere] = -1; // Un repère n'est jamais choisi deux fois
+        }
+        return new PointsDeRepere(n, reperes, avant, arriere, empreinte(g));
+    }
+
+    /**
+     * Calcule d(s,u) et d(u,s) pour tous les nœuds u, les range dans la colonne i des tables
+     * (si elles sont fournies) et retourne d(s,u) + d(u,s)
+     */
+    private static double[] allerRetour(Graphe g, GrapheInverse inverse, DijkstraTas dijkstra, int s,
+                                        double[] avant, double[] arriere, int i, int k) {
+        double[] depuis = dijkstra.distances(g, s);
+        double[] vers = dijkstra.distances(inverse, s);
+        double[] somme = new double[depuis.length];
+        for (int u = 0; u < depuis.length; u++) {
+            double du = depuis[u] == Double.MAX_VALUE ? Double.POSITIVE_INFINITY : depuis[u];
+            double vu = vers[u] == Double.MAX_VALUE ? Double.POSITIVE_INFINITY : vers[u];
+            if (avant != null) {
+                avant[u * k + i] = du;
+                arriere[u * k + i] = vu;
+            }
+            somme[u] = du + vu;
+        }
+        return somme;
+    }
+
+    @Override
+    public double estimer(int u, int arrivee) {
+        int k = this.reperes.length;
+        double borne = 0;
+        for (int i = 0; i < k; i++) {
+            double lu = this.avant[u * k + i];
+            double lt = this.avant[arrivee * k + i];
+            double ul = this.arriere[u * k + i];
+            double tl = this.arriere[arrivee * k + i];
+            if (lt != Double.POSITIVE_INFINITY) {
+                if (lu != Double.POSITIVE_INFINITY) {
+                    borne = Math.max(borne, lt - lu);
+                }
+            } else if (lu != Double.POSITIVE_INFINITY) {
+                return Double.POSITIVE_INFINITY; // L atteint u mais pas t : u n'atteint pas t
+            }
+            if (ul != Double.POSITIVE_INFINITY) {
+                if (tl != Double.POSITIVE_INFINITY) {
+                    borne = Math.max(borne, ul - tl);
+                }
+            } else if (tl != Double.POSITIVE_INFINITY) {
+                return Double.POSITIVE_INFINITY; // t atteint L mais pas u : u n'atteint pas t
+            }
+        }
+        return borne;
+    }
+
+    /**
+     * Retourne le nombre de repères
+     * @return nombre de repères
+     */
+    public int nbReperes() {
+        return this.reperes.length;
+    }
+
+    /**
+     * Retourne un repère
+     * @param i numéro du repère
+     * @return indice du nœud choisi comme repère
+     */
+    public int repere(int i) {
+        return this.reperes[i];
+    }
+
+    /**
+     * Retourne l'empreinte du graphe pour lequel les repères ont été calculés
+     * @return empreinte (voir empreinte(Graphe))
+     */
+    public long getEmpreinte() {
+        return this.empreinte;
+    }
+
+    /**
+     * Calcule l'empreinte d'un graphe : hachage FNV-1a 64 bits des noms des nœuds (octets UTF-8) et de tous
+     * les arcs (destination, coût, ligne). Deux versions différentes d'un graphe ont presque
+     * sûrement des empreintes différentes.
+     * @param g graphe
+     * @return empreinte du graphe
+     */
+    public static long empreinte(Graphe g) {
+        long[] h = {0xcbf29ce484222325L};
+        for (int u = 0; u < g.nbNoeuds(); u++) {
+            for (byte octet : g.nom(u).getBytes(StandardCharsets.UTF_8)) {
+                h[0] = (h[0] ^ (octet & 0xff)) * 0x100000001b3L;
+            }
+            h[0] = melanger(h[0], -1); // Séparateur entre les nœuds
+            g.pourChaqueSuivant(u, (v, c, l) -> {
+                h[0] = melanger(h[0], v);
+                h[0] = melanger(h[0], Double.doubleToLongBits(c));
+                h[0] = melanger(h[0], l);
+            });
+        }
+        return h[0];
+    }
+
+    private static long melanger(long h, long valeur) {
+        for (int i = 0; i < 64; i += 8) {
+            h ^= (valeur >>> i) & 0xff;
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    /**
+     * Sauvegarde les repères et leurs distances dans un fichier
+     * @param fichier chemin du fichier, écrasé s'il existe
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public void sauvegarder(Path fichier) throws IOException {
+        try (OutputStream flux = Files.newOutputStream(fichier)) {
+            CheckedOutputStream controle = new CheckedOutputStream(new BufferedOutputStream(flux), new CRC32());
+            DataOutputStream sortie = new DataOutputStream(controle);
+            sortie.writeInt(MAGIQUE);
+            sortie.writeInt(VERSION);
+            sortie.writeInt(this.nbNoeuds);
+            sortie.writeInt(this.reperes.length);
+            sortie.writeLong(this.empreinte);
+            for (int repere : this.reperes) {
+                sortie.writeInt(repere);
+            }
+            for (double d : this.avant) {
+                sortie.writeDouble(d);
+            }
+            for (double d : this.arriere) {
+                sortie.writeDouble(d);
+            }
+            sortie.writeLong(controle.getChecksum().getValue());
+            sortie.flush();
+        }
+    }
+
+    /**
+     * Charge des repères sauvegardés par sauvegarder(), en vérifiant qu'ils correspondent au graphe
+     * @param fichier chemin du fichier
+     * @param g graphe sur lequel les repères seront utilisés
+     * @return heuristique ALT chargée
+     * @throws IOException en cas d'erreur de lecture, si le fichier est invalide ou corrompu,
+     *                     ou s'il a été calculé pour un autre graphe
+     */
+    public static PointsDeRepere charger(Path fichier, Graphe g) throws IOException {
+        try (InputStream flux = Files.newInputStream(fichier)) {
+            CheckedInputStream controle = new CheckedInputStream(new BufferedInputStream(flux), new CRC32());
+            DataInputStream entree = new DataInputStream(controle);
+            if (entree.readInt() != MAGIQUE) {
+                throw new IOException("Ce fichier n'est pas un fichier de repères");
+            }
+            int version = entree.readInt();
+            if (version != VERSION) {
+                throw new IOException("Version de fichier de repères non supportée : " + version);
+            }
+            int nbNoeuds = entree.readInt();
+            int k = entree.readInt();
+            long empreinte = entree.readLong();
+            if (nbNoeuds != g.nbNoeuds() || empreinte != empreinte(g)) {
+                throw new IOException("Les repères ont été calculés pour un autre graphe");
+            }
+            // k est vérifié contre la taille du fichier avant toute allocation
+            if (k < 1 || k > nbNoeuds || (long) nbNoeuds * k > Integer.MAX_VALUE
+                || Files.size(fichier) != 4 * 4 + 8 + 4L * k + 16L * nbNoeuds * k + 8) {
+                throw new IOException("Fichier de repères invalide : " + k + " repères");
+            }
+            int[] reperes = new int[k];
+            for (int i = 0; i < k; i++) {
+                reperes[i] = entree.readInt();
+                if (reperes[i] < 0 || reperes[i] >= nbNoeuds) {
+                    throw new IOException("Fichier de repères invalide : repère " + reperes[i]);
+                }
+            }
+            double[] avant = new double[nbNoeuds * k];
+            double[] arriere = new double[nbNoeuds * k];
+            for (int i = 0; i < avant.length; i++) {
+                avant[i] = entree.readDouble();
+            }
+            for (int i = 0; i < arriere.length; i++) {
+                arriere[i] = entree.readDouble();
+            }
+            long calcule = controle.getChecksum().getValue();
+            if (entree.readLong() != calcule || entree.read() != -1) {
+                throw new IOException("Fichier de repères corrompu : somme de contrôle incorrecte");
+            }
+            return new PointsDeRepere(nbNoeuds, reperes, avant, arriere, empreinte);
+        }
+    }
+
+    /**
+     * Charge les repères d'un graphe s'ils ont déjà été calculés pour ce graphe,
+     * sinon les calcule et les sauvegarde pour la prochaine fois
+     * @param fichier chemin du fichier de repères (créé ou remplacé au besoin)
+     * @param g graphe
+     * @param nbReperes nombre de repères à calculer si le fichier n'est pas utilisable
+     * @return heuristique ALT pour ce graphe
+     * @throws IOException en cas d'erreur d'écriture du fichier
+     */
+    public static PointsDeRepere chargerOuCalculer(Path fichier, Graphe g, int nbReperes) throws IOException {
+        if (Files.exists(fichier)) {
+            try {
+                PointsDeRepere charges = charger(fichier, g);
+                if (charges.nbReperes() == Math.min(nbReperes, g.nbNoeuds())) {
+                    return charges;
+                }
+            } catch (IOException e) {
+                // Fichier d'une autre version du graphe, ou illisible : on recalcule
+            }
+        }
+        PointsDeRepere calcules = calculer(g, nbReperes);
+        calcules.sauvegarder(fichier);
+        return calcules;
+    }
+
+    @Override
+    public long octetsUtilises() {
+        return Mesurable.objet(6) + Mesurable.tableau(this.reperes.length, 4)
+               + Mesurable.tableau(this.avant.length, 8) + Mesurable.tableau(this.arriere.length, 8);
+    }
+
+    @Override
+    public String toString() {
+        return "PointsDeRepere" + Arrays.toString(this.reperes);
+    }
+}
@@ -0,0 +1,90 @@
+package graphe;
+
+import java.util.Arrays;
+
+/**
+ * Coordonnées planes des nœuds d'un graphe, rangées par indice de nœud.
+ *
+ * Les coordonnées sont dans le repère du fichier du réseau (pixels du plan pour le métro).
+ * Une position GPS doit être projetée dans le même repère avant d'interroger un IndexSpatial.
+ * Un nœud sans position a des coordonnées NaN.
+ *
+ * Comme elles sont rangées par indice, les positions d'un GrapheListe restent valables
+ * pour sa copie GrapheListe.figer(), qui garde les mêmes indices.
+ */
+public class Positions implements Mesurable {
+    // Attributs privés
+    private double[] x = new double[0];
+    private double[] y = new double[0];
+    private int taille; // Plus grand indice défini + 1
+
+    /**
+     * Définit la position d'un nœud
+     * @param u indice du nœud
+     * @param x abscisse
+     * @param y ordonnée
+     */
+    public void definir(int u, double x, double y) {
+        if (u >= this.x.length) {
+            int capacite = Math.max(u + 1, 2 * this.x.length);
+            int ancienne = this.x.length;
+            this.x = Arrays.copyOf(this.x, capacite);
+            this.y = Arrays.copyOf(this.y, capacite);
+            Arrays.fill(this.x, ancienne, capacite, Double.NaN);
+            Arrays.fill(this.y, ancienne, capacite, Double.NaN);
+        }
+        this.x[u] = x;
+        this.y[u] = y;
+        this.taille = Math.max(this.taille, u + 1);
+    }
+
+    /**
+     * Indique si la position d'un nœud est connue
+     * @param u indice du nœud
+     * @return vrai si le nœud a une position
+     */
+    public boolean estConnue(int u) {
+        return u >= 0 && u < this.taille && !Double.isNaN(this.x[u]);
+    }
+
+    /**
+     * Retourne l'abscisse d'un nœud
+     * @param u indice du nœud
+     * @return abscisse, NaN si la position est inconnue
+     */
+    public double x(int u) {
+        return u < this.taille ? this.x[u] : Double.NaN;
+    }
+
+    /**
+     * Retourne l'ordonnée d'un nœud
+     * @param u indice du nœud
+     * @return ordonnée, NaN si la position est inconnue
+     */
+    public double y(int u) {
+        return u < this.taille ? this.y[u] : Double.NaN;
+    }
+
+    /**
+     * Retourne la distance à vol d'oiseau entre deux nœuds
+     * @param u indice du premier nœud
+     * @param v indice du second nœud
+     * @return distance euclidienne, NaN si l'une des positions est inconnue
+     */
+    public double distance(int u, int v) {
+        return Math.hypot(x(u) - x(v), y(u) - y(v));
+    }
+
+    /**
+     * Retourne le nombre d'indices couverts par les positions
+     * @return plus grand indice défini + 1
+     */
+    public int taille() {
+        return this.taille;
+    }
+
+    @Override
+    public long octetsUtilises() {
+        return Mesurable.objet(3) + Mesurable.tableau(this.x.length, 8) + Mesurable.tableau(this.y.length, 8);
+    }
+}
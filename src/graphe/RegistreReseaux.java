@@ -0,0 +1,230 @@
+package graphe;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * Registre de plusieurs réseaux, identifiés par un nom, chargés à la demande.
+ *
+ * Chaque réseau est enregistré avec sa source (fichier texte, fichier binaire ou chargeur
+ * quelconque) mais n'est chargé qu'à sa première utilisation par obtenir(). Si plusieurs
+ * threads demandent en même temps un réseau qui n'est pas chargé, un seul le charge et les
+ * autres attendent le résultat.
+ *
+ * La taille de chaque réseau chargé est estimée ; quand le total dépasse le budget mémoire,
+ * les réseaux utilisés le moins récemment sont oubliés (ils seront rechargés à la prochaine
+ * demande). Un réseau oublié reste utilisable par les threads qui l'avaient déjà obtenu.
+ *
+ * Exemple :
+ *  RegistreReseaux registre = new RegistreReseaux(512L << 20);
+ *  registre.enregistrer("paris", Path.of("graphe/Grp/plan-reseau.txt"));
+ *  registre.enregistrer("lyon", Path.of("reseaux/lyon.grp"));
+ *  Valeurs v = new Dijkstra().resoudre(registre.obtenir("paris"), "Châtelet");
+ */
+public class RegistreReseaux {
+
+    /**
+     * Chargement d'un réseau depuis sa source
+     */
+    @FunctionalInterface
+    public interface Chargeur {
+        /**
+         * Charge le réseau
+         * @return graphe du réseau
+         * @throws IOException en cas d'erreur de lecture
+         */
+        Graphe charger() throws IOException;
+    }
+
+    // Attributs privés
+    private final long budget; // Taille totale maximale des réseaux chargés, en octets
+    private final ToLongFunction<Graphe> estimateur; // Estimation de la taille d'un réseau chargé
+    private final Map<String, Chargeur> sources = new ConcurrentHashMap<>();
+    private final LinkedHashMap<String, Entree> charges; // Du moins au plus récemment utilisé, protégé par this
+    private long octetsCharges; // Somme des tailles des réseaux chargés, protégée par this
+
+    /**
+     * Réseau chargé ou en cours de chargement
+     */
+    private static class Entree {
+        private final CompletableFuture<Graphe> graphe = new CompletableFuture<>();
+        private long taille; // Taille estimée, 0 tant que le chargement n'est pas terminé
+    }
+
+    /**
+     * Constructeur utilisant l'estimation de taille par défaut (StatistiquesGraphe.estimerOctets)
+     * @param budget taille totale maximale des réseaux gardés en mémoire, en octets
+     */
+    public RegistreReseaux(long budget) {
+        this(budget, StatistiquesGraphe::estimerOctets);
+    }
+
+    /**
+     * Constructeur
+     * @param budget taille totale maximale des réseaux gardés en mémoire, en octets
+     * @param estimateur estimation de la taille en mémoire d'un réseau chargé
+     */
+    public RegistreReseaux(long budget, ToLongFunction<Graphe> estimateur) {
+        if (budget <= 0) {
+            throw new IllegalArgumentException("Le budget mémoire doit être strictement positif : " + budget);
+        }
+        this.budget = budget;
+        this.estimateur = estimateur;
+        this.charges = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Enregistre un réseau stocké dans un fichier. Les fichiers .txt sont lus avec LireReseau,
+     * les autres sont des graphes binaires écrits par FormatGraphe.ecrire()
+     * @param id identifiant du réseau
+     * @param fichier chemin du fichier
+     */
+    public void enregistrer(String id, Path fichier) {
+        if (fichier.getFileName().toString().endsWith(".txt")) {
+            enregistrer(id, () -> {
+                if (!Files.isRegularFile(fichier)) {
+                    throw new NoSuchFileException(fichier.toString());
+                }
+                return LireReseau.lire(fichier.toString());
+            });
+        } else {
+            enregistrer(id, () -> FormatGraphe.lire(fichier));
+        }
+    }
+
+    /**
+     * Enregistre un réseau avec un chargeur quelconque.
+     * Si un réseau du même identifiant était déjà chargé, il est oublié.
+     * @param id identifiant du réseau
+     * @param chargeur chargement du réseau
+     */
+    public void enregistrer(String id, Chargeur chargeur) {
+        this.sources.put(id, chargeur);
+        oublier(id);
+    }
+
+    /**
+     * Retourne un réseau, en le chargeant s'il n'est pas en mémoire
+     * @param id identifiant du réseau
+     * @return graphe du réseau
+     * @throws IllegalArgumentException si aucun réseau n'est enregistré sous cet identifiant
+     * @throws IOException si le chargement échoue (il sera retenté à la prochaine demande)
+     */
+    public Graphe obtenir(String id) throws IOException {
+        Entree entree;
+        Chargeur chargeur = null;
+        synchronized (this) {
+            entree = this.charges.get(id); // Marque aussi le réseau comme le plus récemment utilisé
+            if (entree == null) {
+                chargeur = this.sources.get(id);
+                if (chargeur == null) {
+                    throw new IllegalArgumentException("Réseau inconnu : " + id);
+                }
+                entree = new Entree();
+                this.charges.put(id, entree);
+            }
+        }
+
+        if (chargeur != null) {
+            // Ce thread charge le réseau, hors du verrou ; les autres attendent sur entree.graphe
+            try {
+                Graphe g = chargeur.charger();
+                long taille = this.estimateur.applyAsLong(g);
+                synchronized (this) {
+                    if (this.charges.get(id) == entree) {
+                        entree.taille = taille;
+                        this.octetsCharges += taille;
+                        liberer(entree);
+                    }
+                }
+                entree.graphe.complete(g);
+            } catch (IOException | RuntimeException | Error e) {
+                synchronized (this) {
+                    this.charges.remove(id, entree);
+                }
+                entree.graphe.completeExceptionally(e);
+            }
+        }
+
+        try {
+            return entree.graphe.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    /**
+     * Oublie les réseaux les moins récemment utilisés jusqu'à respecter le budget.
+     * Le réseau qui vient d'être chargé et ceux en cours de chargement sont gardés.
+     * @param garde entrée qui vient d'être chargée
+     */
+    private void liberer(Entree garde) {
+        Iterator<Entree> it = this.charges.values().iterator();
+        while (this.octetsCharges > this.budget && it.hasNext()) {
+            Entree e = it.next();
+            if (e != garde && e.graphe.isDone()) {
+                this.octetsCharges -= e.taille;
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Oublie un réseau chargé : il sera rechargé à la prochaine demande
+     * @param id identifiant du réseau
+     */
+    public synchronized void oublier(String id) {
+        Entree e = this.charges.remove(id);
+        if (e != null) {
+            this.octetsCharges -= e.taille;
+        }
+    }
+
+    /**
+     * Indique si un réseau est actuellement en mémoire
+     * @param id identifiant du réseau
+     * @return vrai si le réseau est chargé
+     */
+    public synchronized boolean estCharge(String id) {
+        // Parcours des entrées : get() changerait l'ordre d'utilisation
+        for (Map.Entry<String, Entree> e : this.charges.entrySet()) {
+            if (e.getKey().equals(id)) {
+                return e.getValue().graphe.isDone();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Retourne les identifiants des réseaux en mémoire, du moins au plus récemment utilisé
+     * @return identifiants des réseaux chargés
+     */
+    public synchronized List<String> reseauxCharges() {
+        return new ArrayList<>(this.charges.keySet());
+    }
+
+    /**
+     * Retourne la taille estimée des réseaux en mémoire
+     * @return somme des tailles estimées, en octets
+     */
+    public synchronized long octetsCharges() {
+        return this.octetsCharges;
+    }
+}
@@ -0,0 +1,217 @@
+package graphe;
+
+import java.util.Arrays;
+
+/**
+ * Renumérotation des nœuds d'un graphe pour améliorer la localité mémoire.
+ *
+ * Les algorithmes de plus court chemin accèdent aux tableaux de distances et d'arcs
+ * dans l'ordre des voisins : si des nœuds voisins ont des indices proches,
+ * ces accès tombent dans les mêmes lignes de cache. Le graphe renuméroté
+ * est un GrapheCSR dont les nœuds gardent leur nom ; seuls leurs indices changent.
+ */
+public class Renumerotation {
+    // Attributs privés
+    private final GrapheCSR graphe; // Graphe renuméroté
+    private final int[] ancienIndice; // Nouvel indice -> indice dans le graphe d'origine
+    private final int[] nouvelIndice; // Indice dans le graphe d'origine -> nouvel indice
+
+    /**
+     * Constructeur à partir du graphe renuméroté et de la permutation
+     */
+    private Renumerotation(GrapheCSR graphe, int[] ancienIndice) {
+        this.graphe = graphe;
+        this.ancienIndice = ancienIndice;
+        this.nouvelIndice = new int[ancienIndice.length];
+        for (int i = 0; i < ancienIndice.length; i++) {
+            this.nouvelIndice[ancienIndice[i]] = i;
+        }
+    }
+
+    /**
+     * Retourne le graphe renuméroté
+     * @return graphe dont le nœud i est le nœud ancienIndice(i) du graphe d'origine
+     */
+    public GrapheCSR getGraphe() {
+        return this.graphe;
+    }
+
+    /**
+     * Retourne l'indice d'origine d'un nœud du graphe renuméroté
+     * @param i indice dans le graphe renuméroté
+     * @return indice dans le graphe d'origine
+     */
+    public int ancienIndice(int i) {
+        return this.ancienIndice[i];
+    }
+
+    /**
+     * Retourne le nouvel indice d'un nœud du graphe d'origine
+     * @param i indice dans le graphe d'origine
+     * @return indice dans le graphe renuméroté
+     */
+    public int nouvelIndice(int i) {
+        return this.nouvelIndice[i];
+    }
+
+    /**
+     * Renumérote un graphe selon un ordre donné
+     * @param g graphe d'origine
+     * @param ordre ordre[i] est l'indice d'origine du nœud qui prend l'indice i (permutation de 0..nbNoeuds-1)
+     * @return renumérotation contenant le graphe renuméroté
+     */
+    public static Renumerotation appliquer(Graphe g, int[] ordre) {
+        int n = g.nbNoeuds();
+        if (ordre.length != n) {
+            throw new IllegalArgumentException("L'ordre doit contenir les " + n + " nœuds du graphe");
+        }
+        int[] nouvel = new int[n];
+        Arrays.fill(nouvel, -1);
+        for (int i = 0; i < n; i++) {
+            if (ordre[i] < 0 || ordre[i] >= n) {
+                throw new IllegalArgumentException("Indice de nœud invalide dans l'ordre : " + ordre[i]);
+            }
+            if (nouvel[ordre[i]] != -1) {
+                throw new IllegalArgumentException("Le nœud " + ordre[i] + " apparaît deux fois dans l'ordre");
+            }
+            nouvel[ordre[i]] = i;
+        }
+
+        // Copie des arcs dans le nouvel ordre, en traduisant les destinations
+        TableNoms noms = new TableNoms();
+        int[] debut = new int[n + 1];
+        CopieArcs copie = new CopieArcs(nouvel);
+        for (int i = 0; i < n; i++) {
+            noms.ajouter(g.nom(ordre[i]));
+            g.pourChaqueSuivant(ordre[i], copie);
+            debut[i + 1] = copie.nbArcs;
+        }
+
+        String[] lignes = new String[copie.ligneMax + 1];
+        for (int id = 0; id < lignes.length; id++) {
+            lignes[id] = g.nomLigne(id);
+        }
+        GrapheCSR graphe = new GrapheCSR(noms.compacter(), debut, Arrays.copyOf(copie.dest, copie.nbArcs),
+                                         Arrays.copyOf(copie.cout, copie.nbArcs),
+                                         Arrays.copyOf(copie.ligne, copie.nbArcs), lignes);
+        return new Renumerotation(graphe, ordre.clone());
+    }
+
+    /**
+     * Visiteur recopiant les arcs avec leur destination renumérotée
+     */
+    private static class CopieArcs implements VisiteurArc {
+        private final int[] nouvel;
+        private int[] dest = new int[16];
+        private double[] cout = new double[16];
+        private int[] ligne = new int[16];
+        private int nbArcs;
+        private int ligneMax = -1;
+
+        private CopieArcs(int[] nouvel) {
+            this.nouvel = nouvel;
+        }
+
+        @Override
+        public void visiter(int d, double c, int l) {
+            if (this.nbArcs == this.dest.length) {
+                this.dest = Arrays.copyOf(this.dest, this.nbArcs * 2);
+                this.cout = Arrays.copyOf(this.cout, this.nbArcs * 2);
+                this.ligne = Arrays.copyOf(this.ligne, this.nbArcs * 2);
+            }
+            this.dest[this.nbArcs] = this.nouvel[d];
+            this.cout[this.nbArcs] = c;
+            this.ligne[this.nbArcs] = l;
+            this.nbArcs++;
+            this.ligneMax = Math.max(this.ligneMax, l);
+        }
+    }
+
+    /**
+     * Renumérote un graphe selon l'ordre de Cuthill-McKee inversé (RCM).
+     *
+     * Les arcs sont considérés sans leur sens. Chaque composante est parcourue en largeur
+     * à partir de son nœud de plus petit degré, en visitant les voisins par degré croissant,
+     * puis l'ordre obtenu est inversé. Les voisins reçoivent ainsi des indices proches.
+     *
+     * @param g graphe à renuméroter
+     * @return renumérotation contenant le graphe renuméroté
+     */
+    public static Renumerotation cuthillMcKeeInverse(Graphe g) {
+        int n = g.nbNoeuds();
+
+        // Adjacence non orientée au format CSR
+        int[] degre = new int[n];
+        for (int u = 0; u < n; u++) {
+            final int source = u;
+            g.pourChaqueSuivant(u, (v, cout, ligne) -> {
+                if (v != source) {
+                    degre[source]++;
+                    degre[v]++;
+                }
+            });
+        }
+        int[] debut = new int[n + 1];
+        for (int u = 0; u < n; u++) {
+            debut[u + 1] = debut[u] + degre[u];
+        }
+        int[] voisins = new int[debut[n]];
+        int[] remplissage = Arrays.copyOf(debut, n);
+        for (int u = 0; u < n; u++) {
+            final int source = u;
+            g.pourChaqueSuivant(u, (v, cout, ligne) -> {
+                if (v != source) {
+                    voisins[remplissage[source]++] = v;
+                    voisins[remplissage[v]++] = source;
+                }
+            });
+        }
+
+        // Nœuds triés par degré croissant, pour choisir le départ de chaque composante
+        long[] parDegre = new long[n];
+        for (int u = 0; u < n; u++) {
+            parDegre[u] = ((long) degre[u] << 32) | u;
+        }
+        Arrays.sort(parDegre);
+
+        int[] ordre = new int[n];
+        boolean[] visite = new boolean[n];
+        long[] candidats = new long[16];
+        int fin = 0; // Fin de la file, qui est le début de ordre
+        for (long cle : parDegre) {
+            int depart = (int) cle;
+            if (visite[depart]) {
+                continue;
+            }
+            visite[depart] = true;
+            ordre[fin++] = depart;
+            for (int tete = fin - 1; tete < fin; tete++) {
+                int u = ordre[tete];
+                // Voisins non visités, triés par degré croissant
+                int nb = 0;
+                for (int k = debut[u]; k < debut[u + 1]; k++) {
+                    int v = voisins[k];
+                    if (!visite[v]) {
+                        visite[v] = true;
+                        if (nb == candidats.length) {
+                            candidats = Arrays.copyOf(candidats, nb * 2);
+                        }
+                        candidats[nb++] = ((long) degre[v] << 32) | v;
+                    }
+                }
+                Arrays.sort(candidats, 0, nb);
+                for (int k = 0; k < nb; k++) {
+                    ordre[fin++] = (int) candidats[k];
+                }
+            }
+        }
+
+        // Inversion de l'ordre
+        for (int i = 0, j = n - 1; i < j; i++, j--) {
+            int t = ordre[i];
+            ordre[i] = ordre[j];
+            ordre[j] = t;
+        }
+        return appliquer(g, ordre);
+    }
+}
@@ -0,0 +1,295 @@
+package graphe;
+
+import java.util.BitSet;
+import java.util.Locale;
+
+/**
+ * Rapport sur la forme et la place en mémoire d'un graphe quelconque.
+ *
+ * Le rapport est calculé en un seul parcours des arcs : nombre de nœuds, d'arcs et de lignes,
+ * distribution des degrés sortants (histogramme par puissances de 2 : 0, 1, 2-3, 4-7...),
+ * degré entrant maximal, et octets par nœud et par arc si le graphe est Mesurable.
+ *
+ * Il s'affiche sous forme de texte (toString) ou de JSON (toJson), pour comparer
+ * les représentations d'un même réseau ou suivre leur évolution.
+ */
+public class StatistiquesGraphe {
+    // Attributs privés
+    private final String type;
+    private final int nbNoeuds;
+    private final long nbArcs;
+    private final int nbLignes;
+    private final int nbLignesUtilisees; // Lignes portées par au moins un arc
+    private final long nbArcsSansLigne;
+    private final int degreMin;
+    private final int degreMax;
+    private final int degreEntrantMax;
+    private final int nbSansSuccesseur;
+    private final int nbSansPredecesseur;
+    private final long[] histogramme; // Nombre de nœuds par classe de degré sortant
+    private final long octets; // -1 si le graphe n'est pas Mesurable
+
+    /**
+     * Visiteur comptant les arcs d'un nœud
+     */
+    private static class Compteur implements VisiteurArc {
+        private final int[] degreEntrant;
+        private final BitSet lignes = new BitSet();
+        private int degre;
+        private long sansLigne;
+
+        private Compteur(int nbNoeuds) {
+            this.degreEntrant = new int[nbNoeuds];
+        }
+
+        @Override
+        public void visiter(int dest, double cout, int ligne) {
+            this.degre++;
+            this.degreEntrant[dest]++;
+            if (ligne == -1) {
+                this.sansLigne++;
+            } else {
+                this.lignes.set(ligne);
+            }
+        }
+    }
+
+    /**
+     * Constructeur calculant le rapport d'un graphe
+     * @param g graphe
+     */
+    public StatistiquesGraphe(Graphe g) {
+        this.type = g.getClass().getSimpleName();
+        this.nbNoeuds = g.nbNoeuds();
+        this.nbLignes = g.nbLignes();
+        this.histogramme = new long[33];
+
+        Compteur compteur = new Compteur(this.nbNoeuds);
+        long arcs = 0;
+        int min = this.nbNoeuds == 0 ? 0 : Integer.MAX_VALUE;
+        int max = 0;
+        int sansSuccesseur = 0;
+        for (int u = 0; u < this.nbNoeuds; u++) {
+            compteur.degre = 0;
+            g.pourChaqueSuivant(u, compteur);
+            int d = compteur.degre;
+            arcs += d;
+            min = Math.min(min, d);
+            max = Math.max(max, d);
+            if (d == 0) {
+                sansSuccesseur++;
+            }
+            this.histogramme[classe(d)]++;
+        }
+        int entrantMax = 0;
+        int sansPredecesseur = 0;
+        for (int d : compteur.degreEntrant) {
+            entrantMax = Math.max(entrantMax, d);
+            if (d == 0) {
+                sansPredecesseur++;
+            }
+        }
+
+        this.nbArcs = arcs;
+        this.nbLignesUtilisees = compteur.lignes.cardinality();
+        this.nbArcsSansLigne = compteur.sansLigne;
+        this.degreMin = min;
+        this.degreMax = max;
+        this.degreEntrantMax = entrantMax;
+        this.nbSansSuccesseur = sansSuccesseur;
+        this.nbSansPredecesseur = sansPredecesseur;
+        this.octets = g instanceof Mesurable ? ((Mesurable) g).octetsUtilises() : -1;
+    }
+
+    /**
+     * Estime la place occupée par un graphe : sa propre mesure s'il est Mesurable,
+     * sinon 16 octets par arc (destination, coût et ligne) et 64 octets par nœud (nom et index)
+     * @param g graphe
+     * @return taille estimée en octets
+     */
+    public static long estimerOctets(Graphe g) {
+        if (g instanceof Mesurable) {
+            return ((Mesurable) g).octetsUtilises();
+        }
+        long[] nbArcs = {0};
+        for (int u = 0; u < g.nbNoeuds(); u++) {
+            g.pourChaqueSuivant(u, (v, c, l) -> nbArcs[0]++);
+        }
+        return 16 * nbArcs[0] + 64L * g.nbNoeuds();
+    }
+
+    /**
+     * Retourne la classe d'histogramme d'un degré : 0 pour 0, k pour [2^(k-1), 2^k - 1]
+     */
+    private static int classe(int degre) {
+        return 32 - Integer.numberOfLeadingZeros(degre);
+    }
+
+    /**
+     * Retourne le libellé d'une classe d'histogramme (0, 1, 2-3, 4-7...)
+     */
+    private static String libelle(int classe) {
+        if (classe <= 1) {
+            return String.valueOf(classe);
+        }
+        long debut = 1L << (classe - 1);
+        return debut + "-" + (2 * debut - 1);
+    }
+
+    /** @return nom de la classe du graphe */
+    public String getType() {
+        return this.type;
+    }
+
+    /** @return nombre de nœuds */
+    public int getNbNoeuds() {
+        return this.nbNoeuds;
+    }
+
+    /** @return nombre d'arcs parcourus (une arête non orientée compte pour deux arcs) */
+    public long getNbArcs() {
+        return this.nbArcs;
+    }
+
+    /** @return nombre de lignes enregistrées */
+    public int getNbLignes() {
+        return this.nbLignes;
+    }
+
+    /** @return nombre de lignes portées par au moins un arc */
+    public int getNbLignesUtilisees() {
+        return this.nbLignesUtilisees;
+    }
+
+    /** @return nombre d'arcs sans ligne */
+    public long getNbArcsSansLigne() {
+        return this.nbArcsSansLigne;
+    }
+
+    /** @return plus petit degré sortant */
+    public int getDegreMin() {
+        return this.degreMin;
+    }
+
+    /** @return plus grand degré sortant */
+    public int getDegreMax() {
+        return this.degreMax;
+    }
+
+    /** @return degré sortant moyen */
+    public double getDegreMoyen() {
+        return this.nbNoeuds == 0 ? 0 : (double) this.nbArcs / this.nbNoeuds;
+    }
+
+    /** @return plus grand degré entrant */
+    public int getDegreEntrantMax() {
+        return this.degreEntrantMax;
+    }
+
+    /** @return nombre de nœuds sans successeur */
+    public int getNbSansSuccesseur() {
+        return this.nbSansSuccesseur;
+    }
+
+    /** @return nombre de nœuds sans prédécesseur */
+    public int getNbSansPredecesseur() {
+        return this.nbSansPredecesseur;
+    }
+
+    /**
+     * Retourne le nombre de nœuds ayant un degré sortant donné, à la classe près
+     * @param degre degré sortant
+     * @return nombre de nœuds dont le degré est dans la même classe (0, 1, 2-3, 4-7...)
+     */
+    public long nbNoeudsDeDegre(int degre) {
+        return this.histogramme[classe(degre)];
+    }
+
+    /** @return place occupée par le graphe en octets, -1 si le graphe n'est pas Mesurable */
+    public long getOctets() {
+        return this.octets;
+    }
+
+    /** @return octets par nœud, -1 si le graphe n'est pas Mesurable */
+    public double octetsParNoeud() {
+        return this.octets < 0 || this.nbNoeuds == 0 ? -1 : (double) this.octets / this.nbNoeuds;
+    }
+
+    /** @return octets par arc, -1 si le graphe n'est pas Mesurable */
+    public double octetsParArc() {
+        return this.octets < 0 || this.nbArcs == 0 ? -1 : (double) this.octets / this.nbArcs;
+    }
+
+    /**
+     * Retourne la dernière classe non vide de l'histogramme
+     */
+    private int derniereClasse() {
+        int c = this.histogramme.length - 1;
+        while (c > 0 && this.histogramme[c] == 0) {
+            c--;
+        }
+        return c;
+    }
+
+    /**
+     * Retourne le rapport au format JSON, sur une ligne
+     * @return objet JSON
+     */
+    public String toJson() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"type\":\"").append(this.type).append('"');
+        sb.append(",\"noeuds\":").append(this.nbNoeuds);
+        sb.append(",\"arcs\":").append(this.nbArcs);
+        sb.append(",\"lignes\":").append(this.nbLignes);
+        sb.append(",\"lignesUtilisees\":").append(this.nbLignesUtilisees);
+        sb.append(",\"arcsSansLigne\":").append(this.nbArcsSansLigne);
+        sb.append(",\"degreMin\":").append(this.degreMin);
+        sb.append(",\"degreMax\":").append(this.degreMax);
+        sb.append(",\"degreMoyen\":").append(String.format(Locale.ROOT, "%.3f", getDegreMoyen()));
+        sb.append(",\"degreEntrantMax\":").append(this.degreEntrantMax);
+        sb.append(",\"sansSuccesseur\":").append(this.nbSansSuccesseur);
+        sb.append(",\"sansPredecesseur\":").append(this.nbSansPredecesseur);
+        sb.append(",\"histogrammeDegres\":{");
+        for (int c = 0; c <= derniereClasse(); c++) {
+            if (c > 0) {
+                sb.append(',');
+            }
+            sb.append('"').append(libelle(c)).append("\":").append(this.histogramme[c]);
+        }
+        sb.append('}');
+        sb.append(",\"octets\":").append(this.octets);
+        sb.append(",\"octetsParNoeud\":").append(String.format(Locale.ROOT, "%.1f", octetsParNoeud()));
+        sb.append(",\"octetsParArc\":").append(String.format(Locale.ROOT, "%.1f", octetsParArc()));
+        sb.append('}');
+        return sb.toString();
+    }
+
+    /**
+     * Retourne le rapport sous forme de texte lisible
+     * @return rapport sur plusieurs lignes
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Graphe ").append(this.type).append('\n');
+        sb.append(String.format("  %-22s %d%n", "Nœuds", this.nbNoeuds));
+        sb.append(String.format("  %-22s %d (%d sans ligne)%n", "Arcs", this.nbArcs, this.nbArcsSansLigne));
+        sb.append(String.format("  %-22s %d (%d utilisées)%n", "Lignes", this.nbLignes, this.nbLignesUtilisees));
+        sb.append(String.format("  %-22s min %d, max %d, moyen %.2f%n", "Degré sortant",
+                                this.degreMin, this.degreMax, getDegreMoyen()));
+        sb.append(String.format("  %-22s max %d%n", "Degré entrant", this.degreEntrantMax));
+        sb.append(String.format("  %-22s %d sans successeur, %d sans prédécesseur%n", "Nœuds isolés",
+                                this.nbSansSuccesseur, this.nbSansPredecesseur));
+        sb.append("  Distribution des degrés sortants\n");
+        for (int c = 0; c <= derniereClasse(); c++) {
+            sb.append(String.format("    %-10s %d%n", libelle(c), this.histogramme[c]));
+        }
+        if (this.octets >= 0) {
+            sb.append(String.format("  %-22s %d (%.1f par nœud, %.1f par arc)%n", "Mémoire (octets)",
+                                    this.octets, octetsParNoeud(), octetsParArc()));
+        } else {
+            sb.append(String.format("  %-22s non mesurable%n", "Mémoire (octets)"));
+        }
+        return sb.toString();
+    }
+}
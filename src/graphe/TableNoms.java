@@ -0,0 +1,169 @@
+package graphe;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Table des noms des nœuds d'un graphe, stockés une seule fois en UTF-8.
+ *
+ * Tous les noms sont mis bout à bout dans un même tableau d'octets : le nom d'indice i
+ * occupe les octets debut[i] à debut[i+1]-1. Une table de hachage à adressage ouvert
+ * (sondage linéaire) permet de retrouver l'indice d'un nom en temps constant.
+ * Par rapport à un objet String par nom, on économise l'en-tête des objets
+ * et la moitié de la place pour les caractères latins, accentués ou non.
+ *
+ * Les indices sont attribués dans l'ordre d'ajout à partir de 0.
+ */
+public class TableNoms implements Mesurable {
+    // Attributs privés
+    private byte[] octets; // Octets UTF-8 de tous les noms
+    private int[] debut; // Position du nom de chaque indice, debut[taille] = fin du dernier nom
+    private int taille; // Nombre de noms
+    private int[] table; // Table de hachage : indice du nom + 1, 0 si la case est vide
+
+    /**
+     * Constructeur initialisant une table vide
+     */
+    public TableNoms() {
+        this.octets = new byte[64];
+        this.debut = new int[8];
+        this.taille = 0;
+        this.table = new int[16];
+    }
+
+    /**
+     * Constructeur à partir de noms déjà encodés (utilisé au chargement d'un fichier binaire)
+     * @param octets octets UTF-8 de tous les noms
+     * @param debut position de chaque nom, suivie de la fin du dernier nom
+     */
+    TableNoms(byte[] octets, int[] debut) {
+        this.octets = octets;
+        this.debut = debut;
+        this.taille = debut.length - 1;
+        this.table = new int[FormatGraphe.tailleTable(this.taille)];
+        for (int i = 0; i < this.taille; i++) {
+            inserer(i);
+        }
+    }
+
+    /**
+     * Ajoute un nom à la table s'il n'y est pas déjà
+     * @param nom nom à ajouter
+     * @return indice du nom
+     */
+    public int ajouter(String nom) {
+        byte[] cherche = nom.getBytes(StandardCharsets.UTF_8);
+        int position = chercher(cherche);
+        if (this.table[position] != 0) {
+            return this.table[position] - 1;
+        }
+
+        // Nouveau nom : on l'ajoute à la fin des octets
+        int fin = this.debut[this.taille];
+        if (fin + cherche.length > this.octets.length) {
+            this.octets = Arrays.copyOf(this.octets, Math.max(this.octets.length * 2, fin + cherche.length));
+        }
+        if (this.taille + 2 > this.debut.length) {
+            this.debut = Arrays.copyOf(this.debut, this.debut.length * 2);
+        }
+        System.arraycopy(cherche, 0, this.octets, fin, cherche.length);
+        this.debut[this.taille + 1] = fin + cherche.length;
+        this.taille++;
+
+        if (2 * this.taille > this.table.length) {
+            // Table remplie à plus de moitié : on double sa taille et on réinsère tous les noms
+            this.table = new int[this.table.length * 2];
+            for (int i = 0; i < this.taille; i++) {
+                inserer(i);
+            }
+        } else {
+            this.table[position] = this.taille;
+        }
+        return this.taille - 1;
+    }
+
+    /**
+     * Retourne l'indice d'un nom
+     * @param nom nom recherché
+     * @return indice du nom, -1 s'il n'est pas dans la table
+     */
+    public int indice(String nom) {
+        int position = chercher(nom.getBytes(StandardCharsets.UTF_8));
+        return this.table[position] - 1;
+    }
+
+    /**
+     * Retourne le nom d'indice donné
+     * @param i indice du nom
+     * @return nom décodé
+     */
+    public String nom(int i) {
+        if (i < 0 || i >= this.taille) {
+            throw new IndexOutOfBoundsException("Indice de nom invalide : " + i);
+        }
+        return new String(this.octets, this.debut[i], this.debut[i + 1] - this.debut[i], StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Retourne le nombre de noms
+     * @return nombre de noms
+     */
+    public int taille() {
+        return this.taille;
+    }
+
+    /**
+     * Retourne la place occupée par la table
+     * @return nombre d'octets utilisés (octets des noms, positions et table de hachage)
+     */
+    @Override
+    public long octetsUtilises() {
+        return Mesurable.objet(4) + Mesurable.tableau(this.octets.length, 1)
+               + Mesurable.tableau(this.debut.length, 4) + Mesurable.tableau(this.table.length, 4);
+    }
+
+    /**
+     * Retourne une copie de la table dont les tableaux ont exactement la taille nécessaire,
+     * pour les graphes qui ne seront plus modifiés
+     * @return copie compacte de la table
+     */
+    public TableNoms compacter() {
+        return new TableNoms(Arrays.copyOf(this.octets, this.debut[this.taille]),
+                             Arrays.copyOf(this.debut, this.taille + 1));
+    }
+
+    /**
+     * Cherche la case de la table de hachage contenant un nom
+     * @param cherche octets UTF-8 du nom
+     * @return position de la case contenant le nom, ou de la case vide où l'insérer
+     */
+    private int chercher(byte[] cherche) {
+        int masque = this.table.length - 1;
+        int position = FormatGraphe.hacher(cherche, 0, cherche.length) & masque;
+        while (this.table[position] != 0 && !egal(this.table[position] - 1, cherche)) {
+            position = (position + 1) & masque;
+        }
+        return position;
+    }
+
+    /**
+     * Insère le nom d'indice i dans la table de hachage (le nom ne doit pas déjà y être)
+     * @param i indice du nom
+     */
+    private void inserer(int i) {
+        int masque = this.table.length - 1;
+        int position = FormatGraphe.hacher(this.octets, this.debut[i], this.debut[i + 1]) & masque;
+        while (this.table[position] != 0) {
+            position = (position + 1) & masque;
+        }
+        this.table[position] = i + 1;
+    }
+
+    /**
+     * Compare les octets du nom d'indice i avec ceux recherchés
+     */
+    private boolean egal(int i, byte[] cherche) {
+        int d = this.debut[i];
+        return Arrays.equals(this.octets, d, this.debut[i + 1], cherche, 0, cherche.length);
+    }
+}
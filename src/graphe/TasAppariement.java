@@ -0,0 +1,139 @@
+package graphe;
+
+/**
+ * Tas d'appariement (pairing heap) indexé.
+ *
+ * Le tas est un arbre dont chaque nœud est plus prioritaire que ses fils, sans contrainte de forme.
+ * Insérer ou diminuer une priorité coûte O(1) : on détache le sous-arbre de l'élément
+ * et on le lie à la racine. Le travail est reporté sur extraireMin(), qui fusionne les fils
+ * de la racine deux à deux de gauche à droite, puis de droite à gauche (O(log n) amorti).
+ *
+ * Les fils d'un nœud forment une liste chaînée : enfant donne le premier fils, frere le suivant,
+ * et precedent le frère précédent (ou le père pour le premier fils).
+ */
+public class TasAppariement implements FilePriorite {
+    // Attributs privés
+    private final double[] priorite;
+    private final int[] enfant; // Premier fils de chaque élément, -1 s'il n'en a pas
+    private final int[] frere; // Frère suivant, -1 pour le dernier fils
+    private final int[] precedent; // Frère précédent, ou père pour le premier fils, -1 pour la racine
+    private final boolean[] present;
+    private final int[] paires; // Sous-arbres en attente de fusion dans extraireMin()
+    private int racine = -1;
+
+    /**
+     * Constructeur d'un tas vide
+     * @param capacite nombre d'éléments possibles (0 à capacite-1)
+     */
+    public TasAppariement(int capacite) {
+        this.priorite = new double[capacite];
+        this.enfant = new int[capacite];
+        this.frere = new int[capacite];
+        this.precedent = new int[capacite];
+        this.present = new boolean[capacite];
+        this.paires = new int[capacite];
+    }
+
+    @Override
+    public boolean estVide() {
+        return this.racine == -1;
+    }
+
+    @Override
+    public boolean contient(int u) {
+        return this.present[u];
+    }
+
+    @Override
+    public void inserer(int u, double priorite) {
+        if (this.present[u]) {
+            throw new IllegalStateException("Élément déjà dans le tas : " + u);
+        }
+        this.present[u] = true;
+        this.priorite[u] = priorite;
+        this.enfant[u] = -1;
+        this.frere[u] = -1;
+        this.precedent[u] = -1;
+        this.racine = this.racine == -1 ? u : lier(this.racine, u);
+    }
+
+    @Override
+    public void diminuer(int u, double priorite) {
+        if (!this.present[u] || priorite > this.priorite[u]) {
+            throw new IllegalStateException("Impossible de diminuer la priorité de " + u);
+        }
+        this.priorite[u] = priorite;
+        if (u == this.racine) {
+            return;
+        }
+        // Détachement du sous-arbre de u, puis liaison avec la racine
+        int p = this.precedent[u];
+        if (this.enfant[p] == u) {
+            this.enfant[p] = this.frere[u];
+        } else {
+            this.frere[p] = this.frere[u];
+        }
+        if (this.frere[u] != -1) {
+            this.precedent[this.frere[u]] = p;
+        }
+        this.frere[u] = -1;
+        this.precedent[u] = -1;
+        this.racine = lier(this.racine, u);
+    }
+
+    @Override
+    public int min() {
+        return this.racine;
+    }
+
+    @Override
+    public int extraireMin() {
+        int min = this.racine;
+        this.present[min] = false;
+
+        // Premier passage : fusion des fils deux à deux, de gauche à droite
+        int nbPaires = 0;
+        int f = this.enfant[min];
+        while (f != -1) {
+            int a = f;
+            int b = this.frere[a];
+            if (b == -1) {
+                f = -1;
+            } else {
+                f = this.frere[b];
+                this.frere[b] = -1;
+                this.precedent[b] = -1;
+            }
+            this.frere[a] = -1;
+            this.precedent[a] = -1;
+            this.paires[nbPaires++] = b == -1 ? a : lier(a, b);
+        }
+
+        // Second passage : fusion des paires de droite à gauche
+        int r = -1;
+        for (int i = nbPaires - 1; i >= 0; i--) {
+            r = r == -1 ? this.paires[i] : lier(this.paires[i], r);
+        }
+        this.racine = r;
+        return min;
+    }
+
+    /**
+     * Lie deux arbres : le moins prioritaire devient le premier fils de l'autre
+     * @return racine de l'arbre obtenu
+     */
+    private int lier(int a, int b) {
+        if (this.priorite[b] < this.priorite[a] || (this.priorite[b] == this.priorite[a] && b < a)) {
+            int t = a;
+            a = b;
+            b = t;
+        }
+        this.frere[b] = this.enfant[a];
+        if (this.enfant[a] != -1) {
+            this.precedent[this.enfant[a]] = b;
+        }
+        this.precedent[b] = a;
+        this.enfant[a] = b;
+        return a;
+    }
+}
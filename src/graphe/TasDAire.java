@@ -0,0 +1,131 @@
+package graphe;
+
+import java.util.Arrays;
+
+/**
+ * Tas d-aire indexé : chaque nœud du tas a jusqu'à d fils, et la position de chaque élément
+ * est mémorisée pour pouvoir diminuer sa priorité en O(log n).
+ *
+ * Avec d = 2 on obtient le tas binaire classique. Avec d = 4, le tas est deux fois moins profond :
+ * les insertions et diminutions, bien plus nombreuses que les extractions dans Dijkstra,
+ * remontent moins de niveaux, et les 4 fils d'un nœud sont voisins en mémoire.
+ */
+public class TasDAire implements FilePriorite {
+    // Attributs privés
+    private final int arite;
+    private final int[] tas; // Éléments rangés en tas
+    private final int[] position; // Position de chaque élément dans tas, -1 s'il est absent
+    private final double[] priorite; // Priorité de chaque élément
+    private int taille;
+
+    /**
+     * Constructeur d'un tas vide
+     * @param capacite nombre d'éléments possibles (0 à capacite-1)
+     * @param arite nombre de fils de chaque nœud du tas (au moins 2)
+     */
+    public TasDAire(int capacite, int arite) {
+        if (arite < 2) {
+            throw new IllegalArgumentException("Un tas doit avoir au moins 2 fils par nœud : " + arite);
+        }
+        this.arite = arite;
+        this.tas = new int[capacite];
+        this.position = new int[capacite];
+        this.priorite = new double[capacite];
+        Arrays.fill(this.position, -1);
+    }
+
+    @Override
+    public boolean estVide() {
+        return this.taille == 0;
+    }
+
+    @Override
+    public boolean contient(int u) {
+        return this.position[u] != -1;
+    }
+
+    @Override
+    public void inserer(int u, double priorite) {
+        if (contient(u)) {
+            throw new IllegalStateException("Élément déjà dans le tas : " + u);
+        }
+        this.priorite[u] = priorite;
+        monter(u, this.taille++);
+    }
+
+    @Override
+    public void diminuer(int u, double priorite) {
+        if (!contient(u) || priorite > this.priorite[u]) {
+            throw new IllegalStateException("Impossible de diminuer la priorité de " + u);
+        }
+        this.priorite[u] = priorite;
+        monter(u, this.position[u]);
+    }
+
+    @Override
+    public int min() {
+        return this.tas[0];
+    }
+
+    @Override
+    public int extraireMin() {
+        int min = this.tas[0];
+        this.position[min] = -1;
+        this.taille--;
+        if (this.taille > 0) {
+            descendre(this.tas[this.taille], 0);
+        }
+        return min;
+    }
+
+    /**
+     * Indique si a doit sortir avant b : priorité plus petite, ou égale et élément plus petit
+     */
+    private boolean avant(int a, int b) {
+        return this.priorite[a] < this.priorite[b] || (this.priorite[a] == this.priorite[b] && a < b);
+    }
+
+    /**
+     * Place u à la position i, puis le fait remonter tant qu'il doit sortir avant son père
+     */
+    private void monter(int u, int i) {
+        while (i > 0) {
+            int pere = (i - 1) / this.arite;
+            if (!avant(u, this.tas[pere])) {
+                break;
+            }
+            this.tas[i] = this.tas[pere];
+            this.position[this.tas[i]] = i;
+            i = pere;
+        }
+        this.tas[i] = u;
+        this.position[u] = i;
+    }
+
+    /**
+     * Place u à la position i, puis le fait descendre tant qu'un de ses fils doit sortir avant lui
+     */
+    private void descendre(int u, int i) {
+        while (true) {
+            int premier = this.arite * i + 1;
+            if (premier >= this.taille) {
+                break;
+            }
+            int meilleur = premier;
+            int dernier = Math.min(premier + this.arite, this.taille);
+            for (int f = premier + 1; f < dernier; f++) {
+                if (avant(this.tas[f], this.tas[meilleur])) {
+                    meilleur = f;
+                }
+            }
+            if (!avant(this.tas[meilleur], u)) {
+                break;
+            }
+            this.tas[i] = this.tas[meilleur];
+            this.position[this.tas[i]] = i;
+            i = meilleur;
+        }
+        this.tas[i] = u;
+        this.position[u] = i;
+    }
+}
@@ -16,6 +16,7 @@ public class Valeurs {
     private Map<String, Double> valeur;
     private Map<String, String> parent;
     private Map<String, String> ligne; // ligne utilisée pour atteindre le nœud
+    private Map<String, Integer> idLigne; // identifiant de cette ligne dans le registre du graphe
 
     /**
      * Constructeur vide initialisant les structures de données.
@@ -24,6 +25,7 @@ public class Valeurs {
         this.valeur = new TreeMap<>();
         this.parent = new TreeMap<>();
         this.ligne = new TreeMap<>();
+        this.idLigne = new TreeMap<>();
     }
 
     /**
@@ -80,6 +82,65 @@ public class Valeurs {
         return this.ligne.get(nom);
     }
 
+    /**
+     * Associe l'identifiant de la ligne utilisée pour atteindre un nœud.
+     * @param nom Nom du nœud
+     * @param idLigne Identifiant de la ligne (-1 si aucune)
+     */
+    public void setIdLigne(String nom, int idLigne) {
+        this.idLigne.put(nom, idLigne);
+    }
+
+    /**
+     * Accède à l'identifiant de la ligne utilisée pour atteindre un nœud.
+     * @param nom Nom du nœud
+     * @return Identifiant de la ligne, -1 si aucune
+     */
+    public int getIdLigne(String nom) {
+        return this.idLigne.getOrDefault(nom, -1);
+    }
+
+    /**
+     * Construit un objet Valeurs à partir des tableaux indexés par nœud
+     * utilisés par les algorithmes travaillant sur les indices du graphe.
+     * @param g graphe sur lequel le calcul a été fait
+     * @param depart nom du nœud de départ
+     * @param valeur distance de chaque nœud (Double.MAX_VALUE si inaccessible)
+     * @param parent indice du parent de chaque nœud (-1 si aucun)
+     * @return valeurs associées aux noms des nœuds
+     */
+    static Valeurs depuisTableaux(Graphe g, String depart, double[] valeur, int[] parent) {
+        Valeurs valeurs = new Valeurs();
+        for (int i = 0; i < valeur.length; i++) {
+            String nom = g.nom(i);
+            valeurs.setValeur(nom, valeur[i]);
+            valeurs.setParent(nom, parent[i] == -1 ? null : g.nom(parent[i]));
+        }
+        // Le départ a toujours une valeur nulle, même s'il n'appartient pas au graphe
+        valeurs.setValeur(depart, 0);
+        return valeurs;
+    }
+
+    /**
+     * Construit un objet Valeurs à partir des tableaux indexés par nœud,
+     * en conservant aussi la ligne utilisée pour atteindre chaque nœud.
+     * @param g graphe sur lequel le calcul a été fait
+     * @param depart nom du nœud de départ
+     * @param valeur distance de chaque nœud (Double.MAX_VALUE si inaccessible)
+     * @param parent indice du parent de chaque nœud (-1 si aucun)
+     * @param ligne identifiant de la ligne utilisée pour atteindre chaque nœud (-1 si aucune)
+     * @return valeurs associées aux noms des nœuds
+     */
+    static Valeurs depuisTableaux(Graphe g, String depart, double[] valeur, int[] parent, int[] ligne) {
+        Valeurs valeurs = depuisTableaux(g, depart, valeur, parent);
+        for (int i = 0; i < ligne.length; i++) {
+            String nom = g.nom(i);
+            valeurs.setLigne(nom, g.nomLigne(ligne[i]));
+            valeurs.setIdLigne(nom, ligne[i]);
+        }
+        return valeurs;
+    }
+
     /**
      * Affiche toutes les valeurs, parents et lignes utilisées.
      * @return Chaîne formatée
@@ -0,0 +1,15 @@
+package graphe;
+
+/**
+ * Interface permettant de parcourir les arcs sortant d'un nœud sans créer d'objets Arc.
+ * Elle est utilisée par Graphe.pourChaqueSuivant(int, VisiteurArc).
+ */
+public interface VisiteurArc {
+    /**
+     * Méthode appelée pour chaque arc sortant du nœud parcouru
+     * @param dest indice du nœud de destination
+     * @param cout coût de l'arc
+     * @param ligne identifiant de la ligne de l'arc, -1 si non définie
+     */
+    public void visiter(int dest, double cout, int ligne);
+}
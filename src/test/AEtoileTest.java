@@ -0,0 +1,79 @@
+package test;
+import graphe.AEtoile;
+import graphe.Chemin;
+import graphe.DijkstraTas;
+import graphe.GrapheListe;
+import graphe.HeuristiqueEuclidienne;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.List;
+
+/**
+ * Tests unitaires pour l'algorithme A* avec l'heuristique à vol d'oiseau
+ */
+public class AEtoileTest {
+
+    private GrapheListe g;
+
+    @BeforeEach
+    public void setUp() {
+        // Ligne droite A - B - C - D vers l'est, et une branche E - F vers l'ouest
+        g = new GrapheListe();
+        g.ajouterNoeud("A", 0, 0);
+        g.ajouterNoeud("B", 10, 0);
+        g.ajouterNoeud("C", 20, 0);
+        g.ajouterNoeud("D", 30, 0);
+        g.ajouterNoeud("E", -10, 0);
+        g.ajouterNoeud("F", -20, 0);
+        for (String[] arc : new String[][] {{"A", "B"}, {"B", "C"}, {"C", "D"}, {"A", "E"}, {"E", "F"}}) {
+            g.ajouterArc(arc[0], arc[1], 5);
+            g.ajouterArc(arc[1], arc[0], 5);
+        }
+    }
+
+    @Test
+    public void testVitesseMax() {
+        assertEquals(2.0, new HeuristiqueEuclidienne(g, g.getPositions()).getVitesseMax(), 1e-9);
+        // Un arc deux fois plus rapide augmente la vitesse maximale
+        g.ajouterArc("A", "D", 7.5);
+        assertEquals(4.0, new HeuristiqueEuclidienne(g, g.getPositions()).getVitesseMax(), 1e-9);
+    }
+
+    @Test
+    public void testChemin() {
+        AEtoile aEtoile = new AEtoile(new HeuristiqueEuclidienne(g, g.getPositions()));
+        Chemin chemin = aEtoile.resoudre(g, "A", "D");
+        assertEquals(List.of("A", "B", "C", "D"), chemin.getNoeuds());
+        assertEquals(15.0, chemin.getCout(), 1e-9);
+        assertEquals(4, chemin.getNbNoeudsTraites(), "La branche ouest ne doit pas être explorée");
+        assertEquals(6, new DijkstraTas().resoudre(g, "A", "D").getNbNoeudsTraites());
+        assertFalse(aEtoile.resoudre(g, "A", "Z").existe());
+    }
+
+    @Test
+    public void testSansPosition() {
+        // Un nœud sans position est estimé à 0 : le résultat reste optimal
+        g.ajouterArc("B", "X", 1);
+        g.ajouterArc("X", "D", 1);
+        Chemin chemin = new AEtoile(new HeuristiqueEuclidienne(g, g.getPositions())).resoudre(g, "A", "D");
+        assertEquals(List.of("A", "B", "X", "D"), chemin.getNoeuds());
+        assertEquals(7.0, chemin.getCout(), 1e-9);
+    }
+
+    @Test
+    public void testDetourSansPosition() {
+        // B -> X -> D parcourt 20 en 2 : la vitesse maximale doit compter ce détour par X,
+        // sinon l'estimation de B (20 / 2,14) dépasse le vrai coût restant et A* choisit l'arc direct
+        g.ajouterArc("B", "X", 1);
+        g.ajouterArc("X", "D", 1);
+        g.ajouterArc("A", "D", 14);
+        HeuristiqueEuclidienne heuristique = new HeuristiqueEuclidienne(g, g.getPositions());
+        assertEquals(10.0, heuristique.getVitesseMax(), 1e-9);
+
+        Chemin chemin = new AEtoile(heuristique).resoudre(g, "A", "D");
+        assertEquals(List.of("A", "B", "X", "D"), chemin.getNoeuds());
+        assertEquals(new DijkstraTas().resoudre(g, "A", "D").getCout(), chemin.getCout(), 1e-9);
+    }
+}
@@ -0,0 +1,77 @@
+package test;
+import graphe.CheminsDynamiques;
+import graphe.Dijkstra;
+import graphe.GrapheListe;
+import graphe.GrapheVersionne;
+import graphe.Valeurs;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la mise à jour des plus courts chemins après un changement de coût
+ */
+public class CheminsDynamiquesTest {
+
+    private GrapheVersionne reseau;
+    private CheminsDynamiques chemins;
+
+    @BeforeEach
+    public void setUp() {
+        // Création du graphe de test (Figure 1 du sujet)
+        GrapheListe g = new GrapheListe();
+        g.ajouterArc("A", "B", 12);
+        g.ajouterArc("A", "D", 87);
+        g.ajouterArc("B", "E", 11);
+        g.ajouterArc("C", "A", 19);
+        g.ajouterArc("D", "B", 23);
+        g.ajouterArc("D", "C", 10);
+        g.ajouterArc("E", "D", 43);
+        reseau = new GrapheVersionne(g);
+        chemins = new CheminsDynamiques(reseau.courante(), "A");
+    }
+
+    /**
+     * Vérifie que les chemins réparés sont ceux d'un nouveau calcul complet
+     */
+    private void verifierCommeDijkstra() {
+        Valeurs attendu = new Dijkstra().resoudre(reseau.courante(), "A");
+        Valeurs obtenu = chemins.getValeurs();
+        for (String n : reseau.courante().listeNoeuds()) {
+            assertEquals(attendu.getValeur(n), obtenu.getValeur(n), 0.001, "Distance A->" + n + " incorrecte");
+        }
+    }
+
+    @Test
+    public void testAugmentationArcDeLArbre() {
+        // B -> E fait partie de l'arbre : E, D et C doivent être recalculés
+        chemins.arcModifie("B", "E");
+        int recalcules = chemins.reparer(reseau.modifier().changerCout("B", "E", 100).publier());
+
+        assertEquals(87.0, chemins.getValeur("D"), 0.001);
+        assertEquals("A", chemins.getValeurs().getParent("D"));
+        assertEquals(3, recalcules);
+        verifierCommeDijkstra();
+    }
+
+    @Test
+    public void testDiminution() {
+        chemins.arcModifie("A", "D");
+        chemins.arcModifie("D", "C");
+        chemins.reparer(reseau.modifier().changerCout("A", "D", 5).changerCout("D", "C", 1).publier());
+
+        assertEquals(5.0, chemins.getValeur("D"), 0.001);
+        assertEquals(6.0, chemins.getValeur("C"), 0.001);
+        verifierCommeDijkstra();
+    }
+
+    @Test
+    public void testArcHorsArbreSansEffet() {
+        chemins.arcModifie("C", "A");
+        int recalcules = chemins.reparer(reseau.modifier().changerCout("C", "A", 1000).publier());
+
+        assertEquals(0, recalcules);
+        verifierCommeDijkstra();
+    }
+}
@@ -0,0 +1,109 @@
+package test;
+import graphe.ComposantesFortementConnexes;
+import graphe.Graphe;
+import graphe.GrapheListe;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Random;
+
+/**
+ * Tests unitaires pour l'index des composantes fortement connexes
+ */
+public class ComposantesFortementConnexesTest {
+
+    /**
+     * Calcule par un parcours en largeur les nœuds accessibles depuis u
+     */
+    private static boolean[] parcours(Graphe g, int u) {
+        boolean[] vu = new boolean[g.nbNoeuds()];
+        int[] file = new int[g.nbNoeuds()];
+        int[] fin = {0};
+        vu[u] = true;
+        file[fin[0]++] = u;
+        for (int tete = 0; tete < fin[0]; tete++) {
+            g.pourChaqueSuivant(file[tete], (v, c, l) -> {
+                if (!vu[v]) {
+                    vu[v] = true;
+                    file[fin[0]++] = v;
+                }
+            });
+        }
+        return vu;
+    }
+
+    /**
+     * Graphe aléatoire peu dense : quelques grandes composantes et beaucoup de nœuds seuls
+     */
+    private static GrapheListe grapheAleatoire(long graine, int nbNoeuds, int nbArcs) {
+        Random r = new Random(graine);
+        GrapheListe g = new GrapheListe();
+        for (int i = 0; i < nbNoeuds; i++) {
+            g.ajouterNoeud("n" + i);
+        }
+        for (int i = 0; i < nbArcs; i++) {
+            g.ajouterArc("n" + r.nextInt(nbNoeuds), "n" + r.nextInt(nbNoeuds), 1);
+        }
+        return g;
+    }
+
+    @Test
+    public void testAccessibleCommeParcours() {
+        for (long graine = 1; graine <= 4; graine++) {
+            GrapheListe g = grapheAleatoire(graine, 250, 300);
+            ComposantesFortementConnexes fermeture = new ComposantesFortementConnexes(g);
+            ComposantesFortementConnexes sansFermeture = new ComposantesFortementConnexes(g, 0);
+            assertTrue(fermeture.nbComposantes() <= ComposantesFortementConnexes.LIMITE_FERMETURE);
+
+            boolean[][] attendu = new boolean[g.nbNoeuds()][];
+            for (int u = 0; u < g.nbNoeuds(); u++) {
+                attendu[u] = parcours(g, u);
+            }
+            for (int u = 0; u < g.nbNoeuds(); u++) {
+                for (int v = 0; v < g.nbNoeuds(); v++) {
+                    String message = "Accessibilité de n" + v + " depuis n" + u;
+                    assertEquals(attendu[u][v], fermeture.accessible(u, v), message);
+                    assertEquals(attendu[u][v], sansFermeture.accessible(u, v), message);
+                    assertEquals(attendu[u][v] && attendu[v][u],
+                                 fermeture.composante(u) == fermeture.composante(v), message);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testPlusDeComposantesQueLaLimite() {
+        // Plus de LIMITE_FERMETURE composantes : la fermeture n'est pas précalculée
+        GrapheListe g = grapheAleatoire(5, ComposantesFortementConnexes.LIMITE_FERMETURE + 1000, 6000);
+        ComposantesFortementConnexes index = new ComposantesFortementConnexes(g);
+        assertTrue(index.nbComposantes() > ComposantesFortementConnexes.LIMITE_FERMETURE);
+
+        for (int u = 0; u < g.nbNoeuds(); u += 97) {
+            boolean[] attendu = parcours(g, u);
+            for (int v = 0; v < g.nbNoeuds(); v++) {
+                assertEquals(attendu[v], index.accessible(u, v), "Accessibilité de n" + v + " depuis n" + u);
+            }
+        }
+    }
+
+    @Test
+    public void testLongueChaine() {
+        // Une chaîne de 100 000 nœuds ne doit pas dépasser la pile d'appels
+        int n = 100000;
+        GrapheListe g = new GrapheListe();
+        for (int i = 0; i + 1 < n; i++) {
+            g.ajouterArc("n" + i, "n" + (i + 1), 1);
+        }
+        ComposantesFortementConnexes chaine = new ComposantesFortementConnexes(g);
+        assertEquals(n, chaine.nbComposantes());
+        assertTrue(chaine.accessible("n0", "n" + (n - 1)));
+        assertFalse(chaine.accessible("n" + (n - 1), "n0"));
+
+        // En refermant la chaîne, on obtient un seul cycle
+        g.ajouterArc("n" + (n - 1), "n0", 1);
+        ComposantesFortementConnexes cycle = new ComposantesFortementConnexes(g);
+        assertEquals(1, cycle.nbComposantes());
+        assertEquals(n, cycle.taille(0));
+        assertTrue(cycle.accessible("n" + (n - 1), "n1"));
+    }
+}
@@ -0,0 +1,68 @@
+package test;
+import graphe.ConstructeurGraphe;
+import graphe.GrapheCSR;
+import graphe.GrapheListe;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * Tests unitaires pour la construction en masse d'un graphe
+ */
+public class ConstructeurGrapheTest {
+
+    @Test
+    public void testMemeGrapheQueGrapheListe() {
+        // Assez d'arcs pour être découpés en plusieurs tranches
+        int m = 300000;
+        Random hasard = new Random(42);
+        String[] departs = new String[m];
+        String[] destinations = new String[m];
+        double[] couts = new double[m];
+        String[] lignes = new String[m];
+        GrapheListe liste = new GrapheListe();
+        liste.ajouterNoeud("Isolé");
+        for (int e = 0; e < m; e++) {
+            departs[e] = "N" + hasard.nextInt(5000);
+            destinations[e] = "N" + hasard.nextInt(5000);
+            couts[e] = hasard.nextInt(100);
+            lignes[e] = hasard.nextInt(4) == 0 ? null : "L" + hasard.nextInt(20);
+            liste.ajouterArc(departs[e], destinations[e], couts[e], lignes[e]);
+        }
+
+        GrapheCSR attendu = liste.figer();
+        GrapheCSR obtenu = new ConstructeurGraphe().ajouterNoeud("Isolé")
+                                                   .ajouterArcs(departs, destinations, couts, lignes)
+                                                   .construire();
+
+        assertEquals(attendu.listeNoeuds(), obtenu.listeNoeuds());
+        assertEquals(attendu.nbArcs(), obtenu.nbArcs());
+        assertEquals(attendu.nbLignes(), obtenu.nbLignes());
+        for (String n : attendu.listeNoeuds()) {
+            assertEquals(attendu.suivants(n).toString(), obtenu.suivants(n).toString(), "Arcs de " + n + " différents");
+        }
+    }
+
+    @Test
+    public void testFluxDeConnexions() {
+        GrapheCSR g = new ConstructeurGraphe()
+            .ajouterArcs(Stream.of(new ConstructeurGraphe.Connexion("A", "B", 12, "1"),
+                                   new ConstructeurGraphe.Connexion("B", "C", 5, null),
+                                   new ConstructeurGraphe.Connexion("A", "C", 30, "2")))
+            .construire();
+
+        assertEquals(3, g.nbNoeuds());
+        assertEquals(3, g.nbArcs());
+        assertEquals(2, g.suivants("A").size());
+        assertEquals("2", g.suivants("A").get(1).getLigne());
+        assertNull(g.suivants("B").get(0).getLigne());
+    }
+
+    @Test
+    public void testTableauxDeTaillesDifferentes() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> new ConstructeurGraphe().ajouterArcs(new String[2], new String[1], new double[2], null));
+    }
+}
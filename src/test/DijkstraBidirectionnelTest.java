@@ -0,0 +1,65 @@
+package test;
+import graphe.Chemin;
+import graphe.DijkstraBidirectionnel;
+import graphe.DijkstraTas;
+import graphe.GrapheListe;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tests unitaires pour la recherche de plus court chemin bidirectionnelle
+ */
+public class DijkstraBidirectionnelTest {
+
+    private GrapheListe grapheTest;
+
+    @BeforeEach
+    public void setUp() {
+        // Graphe de la Figure 1 du sujet
+        grapheTest = new GrapheListe();
+        grapheTest.ajouterArc("A", "B", 12);
+        grapheTest.ajouterArc("A", "D", 87);
+        grapheTest.ajouterArc("B", "E", 11);
+        grapheTest.ajouterArc("C", "A", 19);
+        grapheTest.ajouterArc("D", "B", 23);
+        grapheTest.ajouterArc("D", "C", 10);
+        grapheTest.ajouterArc("E", "D", 43);
+    }
+
+    @Test
+    public void testChemin() {
+        DijkstraBidirectionnel recherche = new DijkstraBidirectionnel(grapheTest);
+        Chemin chemin = recherche.resoudre("A", "C");
+        assertEquals(List.of("A", "B", "E", "D", "C"), chemin.getNoeuds());
+        assertEquals(76.0, chemin.getCout(), 0.001);
+        assertEquals(List.of("A"), recherche.resoudre("A", "A").getNoeuds());
+        assertFalse(recherche.resoudre("A", "Z").existe());
+
+        grapheTest.ajouterNoeud("F");
+        assertFalse(new DijkstraBidirectionnel(grapheTest).resoudre("A", "F").existe());
+    }
+
+    @Test
+    public void testMemeCoutQueDijkstra() {
+        Random r = new Random(7);
+        GrapheListe g = new GrapheListe();
+        for (int i = 0; i < 150; i++) {
+            g.ajouterNoeud("n" + i);
+        }
+        for (int i = 0; i < 500; i++) {
+            g.ajouterArc("n" + r.nextInt(150), "n" + r.nextInt(150), r.nextInt(10));
+        }
+        DijkstraBidirectionnel recherche = new DijkstraBidirectionnel(g);
+        DijkstraTas dijkstra = new DijkstraTas();
+        for (int q = 0; q < 100; q++) {
+            String depart = "n" + r.nextInt(150);
+            String arrivee = "n" + r.nextInt(150);
+            assertEquals(dijkstra.resoudre(g, depart, arrivee).getCout(), recherche.resoudre(depart, arrivee).getCout(),
+                         depart + " -> " + arrivee);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package test;
+import graphe.Chemin;
+import graphe.Dijkstra;
+import graphe.DijkstraTas;
+import graphe.FilePriorite;
+import graphe.GrapheListe;
+import graphe.TasAppariement;
+import graphe.TasDAire;
+import graphe.Valeurs;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+/**
+ * Tests unitaires pour l'algorithme de Dijkstra avec file de priorité
+ */
+public class DijkstraTasTest {
+
+    private static final List<IntFunction<FilePriorite>> FILES =
+        List.of(n -> new TasDAire(n, 2), n -> new TasDAire(n, 4), TasAppariement::new);
+
+    private GrapheListe grapheTest;
+
+    @BeforeEach
+    public void setUp() {
+        // Graphe de la Figure 1 du sujet
+        grapheTest = new GrapheListe();
+        grapheTest.ajouterArc("A", "B", 12);
+        grapheTest.ajouterArc("A", "D", 87);
+        grapheTest.ajouterArc("B", "E", 11);
+        grapheTest.ajouterArc("C", "A", 19);
+        grapheTest.ajouterArc("D", "B", 23);
+        grapheTest.ajouterArc("D", "C", 10);
+        grapheTest.ajouterArc("E", "D", 43);
+    }
+
+    @Test
+    public void testDistancesDepuisA() {
+        for (IntFunction<FilePriorite> file : FILES) {
+            Valeurs valeurs = new DijkstraTas(file).resoudre(grapheTest, "A");
+            assertEquals(76.0, valeurs.getValeur("C"), 0.001);
+            assertEquals(List.of("A", "B", "E", "D", "C"), valeurs.calculerChemin("C"));
+        }
+    }
+
+    @Test
+    public void testFiles() {
+        Random r = new Random(1);
+        for (IntFunction<FilePriorite> fabrique : FILES) {
+            FilePriorite file = fabrique.apply(100);
+            double[] priorite = new double[100];
+            for (int u = 0; u < 100; u++) {
+                priorite[u] = r.nextInt(20);
+                file.inserer(u, priorite[u]);
+            }
+            for (int u = 0; u < 100; u += 3) {
+                priorite[u] /= 2;
+                file.diminuer(u, priorite[u]);
+            }
+            int precedent = file.extraireMin();
+            assertFalse(file.contient(precedent));
+            for (int k = 1; k < 100; k++) {
+                int u = file.extraireMin();
+                assertTrue(priorite[precedent] < priorite[u] || (priorite[precedent] == priorite[u] && precedent < u),
+                           "Les éléments doivent sortir par priorité puis par indice");
+                precedent = u;
+            }
+            assertTrue(file.estVide());
+        }
+    }
+
+    @Test
+    public void testIdentiqueADijkstra() {
+        // Graphe aléatoire avec beaucoup d'égalités de coûts et plusieurs lignes
+        Random r = new Random(42);
+        GrapheListe g = new GrapheListe();
+        for (int i = 0; i < 200; i++) {
+            g.ajouterNoeud("n" + i);
+        }
+        for (int i = 0; i < 800; i++) {
+            g.ajouterArc("n" + r.nextInt(200), "n" + r.nextInt(200), r.nextInt(4), "L" + r.nextInt(3));
+        }
+        Valeurs attendu = new Dijkstra().resoudre(g, "n0");
+        Valeurs attendu2 = new Dijkstra().resoudre2(g, "n0");
+        for (IntFunction<FilePriorite> file : FILES) {
+            Valeurs valeurs = new DijkstraTas(file).resoudre(g, "n0");
+            Valeurs valeurs2 = new DijkstraTas(file).resoudre2(g, "n0");
+            for (String n : g.listeNoeuds()) {
+                assertEquals(attendu.getValeur(n), valeurs.getValeur(n));
+                assertEquals(attendu.getParent(n), valeurs.getParent(n));
+                assertEquals(attendu2.getValeur(n), valeurs2.getValeur(n));
+                assertEquals(attendu2.getParent(n), valeurs2.getParent(n));
+            }
+        }
+    }
+
+    @Test
+    public void testPointAPoint() {
+        DijkstraTas dijkstra = new DijkstraTas();
+        Chemin chemin = dijkstra.resoudre(grapheTest, "A", "E");
+        assertEquals(List.of("A", "B", "E"), chemin.getNoeuds());
+        assertEquals(23.0, chemin.getCout(), 0.001);
+        assertEquals(3, chemin.getNbNoeudsTraites(), "La recherche doit s'arrêter dès que E est traité");
+
+        Chemin versC = dijkstra.resoudre(grapheTest, "A", "C");
+        assertEquals(List.of("A", "B", "E", "D", "C"), versC.getNoeuds());
+        assertFalse(dijkstra.resoudre(grapheTest, "A", "Z").existe());
+        assertEquals(Double.MAX_VALUE, dijkstra.resoudre(grapheTest, "A", "Z").getCout());
+        assertEquals(0, dijkstra.resoudre(grapheTest, "A", "Z").getNbNoeudsTraites(),
+                     "Aucune recherche ne doit être lancée vers une arrivée inconnue");
+        assertTrue(dijkstra.resoudre(grapheTest, "A", List.of()).isEmpty());
+    }
+
+    @Test
+    public void testPlusieursArrivees() {
+        List<Chemin> chemins = new DijkstraTas().resoudre(grapheTest, "A", List.of("E", "B", "Z"));
+        assertEquals(3, chemins.size());
+        assertEquals(23.0, chemins.get(0).getCout(), 0.001);
+        assertEquals(List.of("A", "B"), chemins.get(1).getNoeuds());
+        assertFalse(chemins.get(2).existe());
+        assertEquals(3, chemins.get(0).getNbNoeudsTraites(), "Les arrivées inconnues ne doivent pas empêcher l'arrêt");
+    }
+}
@@ -0,0 +1,195 @@
+package test;
+import graphe.Arc;
+import graphe.FormatGraphe;
+import graphe.GrapheCSR;
+import graphe.GrapheListe;
+import graphe.GrapheMappe;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Tests unitaires pour la sauvegarde binaire des graphes
+ */
+public class FormatGrapheTest {
+
+    @TempDir
+    Path dossier;
+
+    private GrapheListe grapheTest;
+
+    @BeforeEach
+    public void setUp() {
+        grapheTest = new GrapheListe();
+        grapheTest.ajouterArc("Châtelet", "Cité", 18, "4");
+        grapheTest.ajouterArc("Cité", "Châtelet", 18, "4");
+        grapheTest.ajouterArc("Châtelet", "Pont-Neuf", 15, "7");
+        grapheTest.ajouterArc("Pont-Neuf", "Châtelet", 15.5);
+        grapheTest.ajouterNoeud("Isolé");
+    }
+
+    @Test
+    public void testSauvegarderCharger() throws IOException {
+        Path fichier = dossier.resolve("graphe.grb");
+        grapheTest.getLignes().enregistrer("14"); // Ligne enregistrée qu'aucun arc n'utilise
+        grapheTest.sauvegarder(fichier);
+        GrapheListe charge = GrapheListe.charger(fichier);
+        GrapheMappe mappe = GrapheMappe.ouvrir(fichier, true);
+
+        assertEquals(grapheTest.nbLignes(), charge.nbLignes());
+        assertEquals(grapheTest.nbLignes(), mappe.nbLignes());
+        for (int id = 0; id < grapheTest.nbLignes(); id++) {
+            assertEquals(grapheTest.nomLigne(id), charge.nomLigne(id));
+            assertEquals(grapheTest.nomLigne(id), mappe.nomLigne(id));
+        }
+
+        assertEquals(grapheTest.listeNoeuds(), charge.listeNoeuds());
+        assertEquals(grapheTest.toString(), charge.toString());
+        assertEquals(grapheTest.getLignes().identifiant("7"), charge.getLignes().identifiant("7"));
+        assertEquals(-1, charge.indice("Inconnu"));
+
+        List<Arc> arcs = charge.suivants("Pont-Neuf");
+        assertEquals(1, arcs.size());
+        assertEquals(15.5, arcs.get(0).getCout(), 0.0);
+        assertNull(arcs.get(0).getLigne());
+    }
+
+    @Test
+    public void testGrapheMappe() throws IOException {
+        Path fichier = dossier.resolve("graphe.grb");
+        FormatGraphe.ecrire(grapheTest, fichier);
+        GrapheMappe mappe = GrapheMappe.ouvrir(fichier, true);
+
+        assertEquals(grapheTest.listeNoeuds(), mappe.listeNoeuds());
+        for (String n : grapheTest.listeNoeuds()) {
+            assertEquals(grapheTest.indice(n), mappe.indice(n), "Indice de " + n + " incorrect");
+            assertEquals(grapheTest.suivants(n).toString(), mappe.suivants(n).toString());
+        }
+        assertEquals(-1, mappe.indice("Inconnu"));
+    }
+
+    @Test
+    public void testFichierCorrompu() throws IOException {
+        Path fichier = dossier.resolve("graphe.grb");
+        FormatGraphe.ecrire(grapheTest, fichier);
+
+        // On modifie un octet du coût du premier arc
+        byte[] octets = Files.readAllBytes(fichier);
+        octets[FormatGraphe.TAILLE_ENTETE + 3] ^= 1;
+        Files.write(fichier, octets);
+
+        assertThrows(IOException.class, () -> FormatGraphe.lire(fichier));
+        assertThrows(IOException.class, () -> GrapheMappe.ouvrir(fichier, true));
+    }
+
+    @Test
+    public void testEnteteCorrompu() throws IOException {
+        Path fichier = dossier.resolve("graphe.grb");
+        FormatGraphe.ecrire(grapheTest, fichier);
+        byte[] octets = Files.readAllBytes(fichier);
+        ByteBuffer entete = ByteBuffer.wrap(octets).order(FormatGraphe.ORDRE);
+        int nbNoeuds = entete.getInt(8);
+        int nbArcs = entete.getInt(12);
+        int tailleTable = entete.getInt(20);
+
+        // Nombres aberrants : aucune allocation ne doit être tentée
+        verifierRejet(octets, 8, Integer.MAX_VALUE);
+        verifierRejet(octets, 12, Integer.MAX_VALUE);
+        verifierRejet(octets, 12, 1 << 28);
+        verifierRejet(octets, 16, Integer.MAX_VALUE);
+        verifierRejet(octets, 20, Integer.MAX_VALUE);
+        verifierRejet(octets, 8, -1);
+        // Nombres plausibles mais incohérents avec le reste du fichier
+        verifierRejet(octets, 8, nbNoeuds + 1);
+        verifierRejet(octets, 12, nbArcs - 1);
+        verifierRejet(octets, 20, tailleTable * 2);
+
+        // Dernière position de la table debutNoms
+        int finNoms = FormatGraphe.TAILLE_ENTETE + 8 * nbArcs + 4 * (nbNoeuds + 1) + 8 * nbArcs
+                      + 4 * tailleTable + 4 * nbNoeuds;
+        verifierRejet(octets, finNoms, -8);
+        verifierRejet(octets, finNoms, Integer.MAX_VALUE);
+        verifierRejet(octets, finNoms, entete.getInt(finNoms) + 1);
+    }
+
+    @Test
+    public void testSommeControleEntete() throws IOException {
+        Path fichier = dossier.resolve("graphe.grb");
+        FormatGraphe.ecrire(grapheTest, fichier);
+
+        // La somme de contrôle couvre l'en-tête : la modifier seule suffit à rejeter le fichier
+        byte[] octets = Files.readAllBytes(fichier);
+        octets[FormatGraphe.TAILLE_ENTETE - 1] ^= 1;
+        Files.write(fichier, octets);
+
+        assertThrows(IOException.class, () -> FormatGraphe.lire(fichier));
+        assertThrows(IOException.class, () -> GrapheMappe.ouvrir(fichier, true));
+        assertEquals(grapheTest.nbNoeuds(), GrapheMappe.ouvrir(fichier).nbNoeuds(), "Sans vérification, le fichier reste lisible");
+    }
+
+    @Test
+    public void testTableDesNomsPleine() throws IOException {
+        Path fichier = dossier.resolve("graphe.grb");
+        FormatGraphe.ecrire(grapheTest, fichier);
+
+        // Table de hachage sans case vide : la recherche d'un nom absent doit s'arrêter
+        byte[] octets = Files.readAllBytes(fichier);
+        ByteBuffer tampon = ByteBuffer.wrap(octets).order(FormatGraphe.ORDRE);
+        int nbNoeuds = tampon.getInt(8);
+        int nbArcs = tampon.getInt(12);
+        int tailleTable = tampon.getInt(20);
+        int debutTable = FormatGraphe.TAILLE_ENTETE + 8 * nbArcs + 4 * (nbNoeuds + 1) + 8 * nbArcs;
+        for (int i = 0; i < tailleTable; i++) {
+            tampon.putInt(debutTable + 4 * i, 1);
+        }
+        Files.write(fichier, octets);
+
+        GrapheMappe mappe = GrapheMappe.ouvrir(fichier);
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            assertEquals(-1, mappe.indice("Inconnu"));
+            assertEquals(0, mappe.indice(grapheTest.nom(0)));
+        });
+    }
+
+    /**
+     * Écrit une copie du fichier où l'entier à la position donnée est remplacé,
+     * et vérifie que toutes les lectures la rejettent par une IOException
+     */
+    private void verifierRejet(byte[] octets, int position, int valeur) throws IOException {
+        byte[] copie = octets.clone();
+        ByteBuffer.wrap(copie).order(FormatGraphe.ORDRE).putInt(position, valeur);
+        Path fichier = dossier.resolve("corrompu.grb");
+        Files.write(fichier, copie);
+
+        String message = "Entier " + valeur + " à la position " + position;
+        assertThrows(IOException.class, () -> FormatGraphe.lire(fichier), message);
+        assertThrows(IOException.class, () -> GrapheMappe.ouvrir(fichier), message);
+        assertThrows(IOException.class, () -> GrapheMappe.ouvrir(fichier, true), message);
+    }
+
+    @Test
+    public void testFichierInvalide() throws IOException {
+        Path fichier = dossier.resolve("graphe.txt");
+        Files.writeString(fichier, "A\tB\t12\n");
+
+        assertThrows(IOException.class, () -> GrapheListe.charger(fichier));
+        assertThrows(IOException.class, () -> GrapheMappe.ouvrir(fichier));
+    }
+
+    @Test
+    public void testGrapheFige() throws IOException {
+        Path fichier = dossier.resolve("graphe.grb");
+        GrapheCSR csr = grapheTest.figer();
+        FormatGraphe.ecrire(csr, fichier);
+
+        assertEquals(csr.toString(), FormatGraphe.lire(fichier).toString());
+    }
+}
@@ -0,0 +1,72 @@
+package test;
+import graphe.Arc;
+import graphe.BellmanFord;
+import graphe.Dijkstra;
+import graphe.GrapheCSR;
+import graphe.GrapheListe;
+import graphe.Valeurs;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.List;
+
+/**
+ * Tests unitaires pour le graphe figé au format CSR
+ */
+public class GrapheCSRTest {
+
+    private GrapheListe grapheTest;
+
+    @BeforeEach
+    public void setUp() {
+        // Création du graphe de test (Figure 1 du sujet)
+        grapheTest = new GrapheListe();
+        grapheTest.ajouterArc("A", "B", 12);
+        grapheTest.ajouterArc("A", "D", 87);
+        grapheTest.ajouterArc("B", "E", 11);
+        grapheTest.ajouterArc("C", "A", 19);
+        grapheTest.ajouterArc("D", "B", 23);
+        grapheTest.ajouterArc("D", "C", 10);
+        grapheTest.ajouterArc("E", "D", 43, "7bis");
+    }
+
+    @Test
+    public void testMemeStructure() {
+        GrapheCSR csr = grapheTest.figer();
+
+        assertEquals(grapheTest.listeNoeuds(), csr.listeNoeuds(), "Ordre des nœuds différent");
+        assertEquals(7, csr.nbArcs());
+        assertEquals(grapheTest.toString(), csr.toString());
+
+        List<Arc> arcsE = csr.suivants("E");
+        assertEquals(1, arcsE.size());
+        assertEquals("D", arcsE.get(0).getDest());
+        assertEquals(43.0, arcsE.get(0).getCout(), 0.001);
+        assertEquals("7bis", arcsE.get(0).getLigne());
+
+        assertTrue(csr.suivants("Z").isEmpty(), "Un nœud inconnu n'a pas d'arcs");
+    }
+
+    @Test
+    public void testIndependantDuGrapheSource() {
+        GrapheCSR csr = grapheTest.figer();
+        grapheTest.ajouterArc("A", "C", 1);
+
+        assertEquals(2, csr.suivants("A").size(), "Le graphe figé ne doit pas changer");
+    }
+
+    @Test
+    public void testMemesResultatsAlgorithmes() {
+        GrapheCSR csr = grapheTest.figer();
+
+        Valeurs dijListe = new Dijkstra().resoudre(grapheTest, "A");
+        Valeurs dijCsr = new Dijkstra().resoudre(csr, "A");
+        Valeurs bfCsr = new BellmanFord().resoudre(csr, "A");
+        for (String n : grapheTest.listeNoeuds()) {
+            assertEquals(dijListe.getValeur(n), dijCsr.getValeur(n), 0.001, "Distance A->" + n + " incorrecte");
+            assertEquals(dijListe.getParent(n), dijCsr.getParent(n), "Parent de " + n + " incorrect");
+            assertEquals(dijListe.getValeur(n), bfCsr.getValeur(n), 0.001, "Distance A->" + n + " incorrecte");
+        }
+    }
+}
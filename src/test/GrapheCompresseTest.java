@@ -0,0 +1,98 @@
+package test;
+import graphe.Arc;
+import graphe.GrapheCompresse;
+import graphe.GrapheListe;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tests unitaires pour le graphe compressé
+ */
+public class GrapheCompresseTest {
+
+    /**
+     * Graphe aléatoire dont l'encodage demande des écarts négatifs, des varints
+     * de plusieurs octets (écarts, coûts et lignes au-delà de 63) et des voisins répétés
+     */
+    private static GrapheListe grapheAleatoire(long graine) {
+        Random r = new Random(graine);
+        GrapheListe g = new GrapheListe();
+        int nbNoeuds = 2000;
+        for (int i = 0; i < nbNoeuds; i++) {
+            g.ajouterNoeud("n" + i);
+        }
+        for (int i = 0; i < 10000; i++) {
+            String depart = "n" + r.nextInt(nbNoeuds);
+            String dest = "n" + r.nextInt(nbNoeuds);
+            double cout = r.nextDouble() * 5000;
+            if (r.nextInt(4) == 0) {
+                g.ajouterArc(depart, dest, cout);
+            } else {
+                g.ajouterArc(depart, dest, cout, "L" + r.nextInt(300));
+            }
+            if (r.nextInt(5) == 0) {
+                // Voisin répété, éventuellement sur une autre ligne
+                g.ajouterArc(depart, dest, r.nextDouble() * 10, "L" + r.nextInt(300));
+            }
+        }
+        return g;
+    }
+
+    @Test
+    public void testAllerRetour() {
+        double pas = 0.25;
+        for (long graine = 1; graine <= 3; graine++) {
+            GrapheListe source = grapheAleatoire(graine);
+            GrapheCompresse compresse = GrapheCompresse.compresser(source, pas);
+
+            assertEquals(source.listeNoeuds(), compresse.listeNoeuds());
+            assertEquals(source.nbLignes(), compresse.nbLignes());
+            for (int id = 0; id < source.nbLignes(); id++) {
+                assertEquals(source.nomLigne(id), compresse.nomLigne(id));
+            }
+
+            int nbArcs = 0;
+            boolean ecartNegatif = false;
+            for (int u = 0; u < source.nbNoeuds(); u++) {
+                // Les arcs compressés sont triés par destination, à égalité dans l'ordre d'origine
+                List<Arc> attendus = new ArrayList<>(source.suivants(source.nom(u)));
+                attendus.sort(Comparator.comparingInt(a -> source.indice(a.getDest())));
+                List<Arc> lus = compresse.suivants(compresse.nom(u));
+
+                assertEquals(attendus.size(), lus.size(), "Degré de n" + u + " incorrect");
+                for (int k = 0; k < attendus.size(); k++) {
+                    Arc attendu = attendus.get(k);
+                    Arc lu = lus.get(k);
+                    assertEquals(attendu.getDest(), lu.getDest(), "Destination incorrecte depuis n" + u);
+                    assertEquals(attendu.getLigne(), lu.getLigne(), "Ligne incorrecte depuis n" + u);
+                    assertEquals(attendu.getCout(), lu.getCout(), pas / 2, "Coût hors de l'erreur de quantification");
+                }
+                nbArcs += attendus.size();
+                ecartNegatif |= !attendus.isEmpty() && source.indice(attendus.get(0).getDest()) < u;
+            }
+            assertEquals(nbArcs, compresse.nbArcs());
+            assertTrue(ecartNegatif, "Le graphe de test doit contenir des écarts négatifs");
+            assertTrue(compresse.tailleDonnees() > 3 * nbArcs, "Le graphe de test doit contenir des varints longs");
+        }
+    }
+
+    @Test
+    public void testCoutsExacts() {
+        // Avec des coûts entiers et un pas de 1, la compression est sans perte
+        GrapheListe source = new GrapheListe();
+        source.ajouterArc("A", "B", 12);
+        source.ajouterArc("B", "A", 100000, "1");
+        source.ajouterArc("B", "A", 3, "2");
+        GrapheCompresse compresse = GrapheCompresse.compresser(source, 1);
+
+        for (String n : source.listeNoeuds()) {
+            assertEquals(source.suivants(n).toString(), compresse.suivants(n).toString());
+        }
+        assertThrows(IllegalArgumentException.class, () -> GrapheCompresse.compresser(source, 0));
+    }
+}
@@ -0,0 +1,78 @@
+package test;
+import graphe.Dijkstra;
+import graphe.GrapheLignes;
+import graphe.GrapheListe;
+import graphe.Valeurs;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests unitaires pour la vue d'un graphe réduite à certaines lignes
+ */
+public class GrapheLignesTest {
+
+    private GrapheListe grapheTest;
+
+    @BeforeEach
+    public void setUp() {
+        grapheTest = new GrapheListe();
+        grapheTest.ajouterArc("A", "B", 1, "1");
+        grapheTest.ajouterArc("B", "C", 1, "1");
+        grapheTest.ajouterArc("A", "C", 5, "2");
+        grapheTest.ajouterArc("C", "D", 2); // Correspondance à pied
+    }
+
+    @Test
+    public void testLigneExclue() {
+        GrapheLignes vue = new GrapheLignes(grapheTest, nom -> !nom.equals("1"));
+
+        // Les lignes gardent leurs identifiants et leurs noms
+        assertEquals(grapheTest.nbLignes(), vue.nbLignes());
+        for (int id = 0; id < grapheTest.nbLignes(); id++) {
+            assertEquals(grapheTest.nomLigne(id), vue.nomLigne(id));
+        }
+        assertFalse(vue.contientLigne("1"));
+        assertTrue(vue.contientLigne("2"));
+
+        Valeurs valeurs = new Dijkstra().resoudre(vue, "A");
+        assertEquals(5, valeurs.getValeur("C"), 0.001);
+        assertEquals(7, valeurs.getValeur("D"), 0.001, "Les arcs sans ligne sont gardés");
+        assertEquals(Double.MAX_VALUE, valeurs.getValeur("B"), "B n'est desservi que par la ligne exclue");
+    }
+
+    @Test
+    public void testLignesGardees() {
+        GrapheLignes vue = new GrapheLignes(grapheTest, List.of("1", "Inconnue"));
+
+        assertTrue(vue.contientLigne("1"));
+        assertFalse(vue.contientLigne("2"));
+        assertTrue(vue.suivants("A").stream().allMatch(a -> "1".equals(a.getLigne())));
+
+        Valeurs valeurs = new Dijkstra().resoudre(vue, "A");
+        assertEquals(2, valeurs.getValeur("C"), 0.001);
+        assertEquals(4, valeurs.getValeur("D"), 0.001);
+        assertEquals(valeurs.toString(), new Dijkstra().resoudre(grapheTest, "A").toString(),
+                     "Le plus court chemin n'utilise pas la ligne 2");
+    }
+
+    @Test
+    public void testParcoursImbrique() {
+        GrapheLignes vue = new GrapheLignes(grapheTest, List.of("1", "2"));
+        int a = vue.indice("A");
+        int c = vue.indice("C");
+
+        // Un visiteur qui parcourt la même vue ne doit pas perturber le parcours englobant
+        List<String> exterieur = new ArrayList<>();
+        List<String> interieur = new ArrayList<>();
+        vue.pourChaqueSuivant(a, (v, cout, l) -> {
+            exterieur.add(vue.nom(v));
+            vue.pourChaqueSuivant(c, (w, coutW, lW) -> interieur.add(vue.nom(w)));
+        });
+        assertEquals(List.of("B", "C"), exterieur);
+        assertEquals(List.of("D", "D"), interieur);
+    }
+}
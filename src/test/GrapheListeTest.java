@@ -65,4 +65,57 @@ public class GrapheListeTest {
         assertTrue(arcDBTrouve, "Arc D->B non trouvé ou incorrect");
         assertTrue(arcDCTrouve, "Arc D->C non trouvé ou incorrect");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testIndiceNoeuds() {
+        GrapheListe g = new GrapheListe();
+        g.ajouterArc("A", "B", 12);
+        g.ajouterArc("B", "C", 5);
+
+        // Les indices suivent l'ordre d'ajout des nœuds
+        assertEquals(0, g.indice("A"));
+        assertEquals(1, g.indice("B"));
+        assertEquals(2, g.indice("C"));
+        assertEquals(-1, g.indice("Z"), "Un nœud inconnu doit avoir l'indice -1");
+
+        // Ajouter un nœud existant ne le duplique pas
+        assertEquals(1, g.ajouterNoeud("B"));
+        assertEquals(3, g.listeNoeuds().size());
+    }
+
+    @Test
+    public void testNormaliser() {
+        GrapheListe g = new GrapheListe();
+        g.ajouterArc("A", "B", 12, "1");
+        g.ajouterArc("A", "C", 5);
+        g.ajouterArc("A", "B", 9, "1");
+        g.ajouterArc("A", "B", 20, "2");
+        g.ajouterArc("A", "C", 7);
+
+        // Un seul arc par destination et par ligne, avec le plus petit coût
+        assertEquals(2, g.normaliser());
+        List<Arc> arcsA = g.suivants("A");
+        assertEquals(3, arcsA.size());
+        assertEquals("B", arcsA.get(0).getDest());
+        assertEquals(9.0, arcsA.get(0).getCout(), 0.001);
+        assertEquals("C", arcsA.get(1).getDest());
+        assertEquals(5.0, arcsA.get(1).getCout(), 0.001);
+        assertEquals("2", arcsA.get(2).getLigne());
+        assertEquals(0, g.normaliser(), "Le graphe est déjà normalisé");
+    }
+
+    @Test
+    public void testTropDeLignes() {
+        GrapheListe g = new GrapheListe();
+        for (int i = 0; i <= Short.MAX_VALUE; i++) {
+            g.getLignes().enregistrer("L" + i);
+        }
+        g.ajouterArc("A", "B", 1, "L0");
+
+        // Une ligne de plus ne tient pas sur un short : elle est refusée sans être enregistrée
+        assertThrows(IllegalStateException.class, () -> g.ajouterArc("A", "B", 1, "Nouvelle"));
+        assertEquals(Short.MAX_VALUE + 1, g.getLignes().taille());
+        assertEquals(-1, g.getLignes().identifiant("Nouvelle"));
+        assertEquals(1, g.suivants("A").size());
+    }
+}
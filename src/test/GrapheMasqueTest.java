@@ -0,0 +1,130 @@
+package test;
+import graphe.Arc;
+import graphe.Dijkstra;
+import graphe.GrapheListe;
+import graphe.GrapheMasque;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests unitaires pour la vue d'un graphe avec fermetures
+ */
+public class GrapheMasqueTest {
+
+    private GrapheListe grapheTest;
+    private GrapheMasque masque;
+
+    @BeforeEach
+    public void setUp() {
+        // Ligne 1 : A - B - C - D dans les deux sens, ligne 2 : A - D, et un arc sans ligne de B vers D
+        grapheTest = new GrapheListe();
+        String[] ligne1 = {"A", "B", "C", "D"};
+        for (int i = 0; i + 1 < ligne1.length; i++) {
+            grapheTest.ajouterArc(ligne1[i], ligne1[i + 1], 1, "1");
+            grapheTest.ajouterArc(ligne1[i + 1], ligne1[i], 1, "1");
+        }
+        grapheTest.ajouterArc("A", "D", 10, "2");
+        grapheTest.ajouterArc("D", "A", 10, "2");
+        grapheTest.ajouterArc("B", "D", 5);
+        masque = new GrapheMasque(grapheTest);
+    }
+
+    /**
+     * Retourne la distance entre deux nœuds dans la vue
+     */
+    private double distance(String depart, String arrivee) {
+        return new Dijkstra().resoudre(masque, depart).getValeur(arrivee);
+    }
+
+    @Test
+    public void testSansFermeture() {
+        assertEquals(grapheTest.nbNoeuds(), masque.nbNoeuds());
+        assertEquals(9, masque.nbArcs());
+        for (String n : grapheTest.listeNoeuds()) {
+            assertEquals(grapheTest.suivants(n).toString(), masque.suivants(n).toString());
+        }
+        assertEquals(3, distance("A", "D"), 0.001);
+    }
+
+    @Test
+    public void testFermetureStation() {
+        masque.fermerStation("B");
+
+        assertTrue(masque.estFermee("B"));
+        assertTrue(masque.suivants("B").isEmpty(), "Une station fermée n'a plus d'arcs sortants");
+        for (Arc a : masque.suivants("A")) {
+            assertNotEquals("B", a.getDest(), "Une station fermée n'a plus d'arcs entrants");
+        }
+        assertEquals(10, distance("A", "D"), 0.001);
+        assertEquals(11, distance("A", "C"), 0.001);
+
+        masque.rouvrirStation("B");
+        assertFalse(masque.estFermee("B"));
+        assertEquals(3, distance("A", "D"), 0.001);
+        assertThrows(IllegalArgumentException.class, () -> masque.fermerStation("Z"));
+    }
+
+    @Test
+    public void testFermetureArcs() {
+        assertEquals(1, masque.fermerArcs("A", "B"));
+
+        assertEquals(List.of("D"), masque.suivants("A").stream().map(Arc::getDest).toList());
+        assertEquals(10, distance("A", "D"), 0.001);
+        assertEquals(1, distance("B", "A"), 0.001, "L'arc inverse reste ouvert");
+
+        masque.toutRouvrir();
+        assertEquals(3, distance("A", "D"), 0.001);
+
+        // Fermeture par numéro : les arcs de A sont numérotés à partir de 0
+        masque.changerArc(0, true);
+        assertEquals(10, distance("A", "D"), 0.001);
+        masque.changerArc(0, false);
+        assertEquals(3, distance("A", "D"), 0.001);
+        assertThrows(IndexOutOfBoundsException.class, () -> masque.changerArc(masque.nbArcs(), true));
+    }
+
+    @Test
+    public void testFermerLigneEntre() {
+        assertEquals(4, masque.fermerLigneEntre("1", "A", "C"));
+
+        // Les deux sens sont fermés, les autres lignes restent ouvertes
+        assertEquals(List.of("D"), masque.suivants("A").stream().map(Arc::getDest).toList());
+        assertEquals(List.of("D"), masque.suivants("B").stream().map(Arc::getDest).toList());
+        assertEquals(List.of("D"), masque.suivants("C").stream().map(Arc::getDest).toList());
+        assertEquals(11, distance("A", "C"), 0.001);
+        assertEquals(11, distance("C", "A"), 0.001);
+
+        // Les autres vues ne sont pas touchées, une copie garde les fermetures
+        GrapheMasque autre = masque.nouvelleVue();
+        GrapheMasque copie = masque.copier();
+        assertEquals(2, new Dijkstra().resoudre(autre, "A").getValeur("C"), 0.001);
+        assertEquals(11, new Dijkstra().resoudre(copie, "A").getValeur("C"), 0.001);
+
+        masque.toutRouvrir();
+        assertEquals(2, distance("A", "C"), 0.001);
+        assertEquals(11, new Dijkstra().resoudre(copie, "A").getValeur("C"), 0.001);
+        assertThrows(IllegalArgumentException.class, () -> masque.fermerLigneEntre("2", "A", "C"));
+        assertThrows(IllegalArgumentException.class, () -> masque.fermerLigneEntre("9", "A", "C"));
+    }
+
+    @Test
+    public void testParcoursImbrique() {
+        masque.fermerArcs("B", "D");
+        int b = masque.indice("B");
+        int c = masque.indice("C");
+
+        // Un visiteur qui parcourt la même vue ne doit pas perturber le parcours englobant
+        List<String> exterieur = new ArrayList<>();
+        List<String> interieur = new ArrayList<>();
+        masque.pourChaqueSuivant(b, (v, cout, l) -> {
+            exterieur.add(masque.nom(v));
+            masque.pourChaqueSuivant(c, (w, coutW, lW) -> interieur.add(masque.nom(w)));
+        });
+        assertEquals(List.of("A", "C"), exterieur);
+        assertEquals(List.of("B", "D", "B", "D"), interieur);
+    }
+}
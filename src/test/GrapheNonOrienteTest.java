@@ -0,0 +1,87 @@
+package test;
+import graphe.Arc;
+import graphe.Dijkstra;
+import graphe.Graphe;
+import graphe.GrapheListe;
+import graphe.GrapheNonOriente;
+import graphe.LireReseau;
+import graphe.Valeurs;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Tests unitaires pour le graphe non orienté
+ */
+public class GrapheNonOrienteTest {
+
+    @TempDir
+    Path dossier;
+
+    private GrapheNonOriente grapheTest;
+
+    @BeforeEach
+    public void setUp() {
+        grapheTest = new GrapheNonOriente();
+        grapheTest.ajouterArete("A", "B", 3, "1");
+        grapheTest.ajouterArete("B", "C", 4, "1");
+        grapheTest.ajouterArete("C", "B", 2, "1"); // Arête parallèle : fusionnée, coût minimal gardé
+        grapheTest.ajouterArete("B", "C", 6, "2"); // Autre ligne : arête distincte
+    }
+
+    @Test
+    public void testAretesStockeesUneFois() {
+        assertEquals(3, grapheTest.nbAretes());
+        assertEquals(3, grapheTest.nbNoeuds());
+
+        // Chaque arête est visitée depuis ses deux extrémités, avec le même coût et la même ligne
+        List<Arc> depuisB = grapheTest.suivants("B");
+        assertEquals(3, depuisB.size());
+        assertEquals("B(3.0, ligne 1)", grapheTest.suivants("A").get(0).toString());
+        assertTrue(depuisB.toString().contains("A(3.0, ligne 1)"));
+        assertTrue(depuisB.toString().contains("C(2.0, ligne 1)"));
+        assertTrue(depuisB.toString().contains("C(6.0, ligne 2)"));
+        assertEquals(2, grapheTest.suivants("C").size());
+        assertTrue(grapheTest.suivants("C").toString().contains("B(2.0, ligne 1)"));
+    }
+
+    @Test
+    public void testMemesCoutsQueLeGrapheOriente() throws IOException {
+        Path fichier = dossier.resolve("reseau.txt");
+        Files.writeString(fichier, String.join("\n",
+            "# stations",
+            "1:Nation:10:10:1,2",
+            "2:Bastille:8:10:1",
+            "3:Châtelet:5:11:1,4",
+            "4:Cité:5:10:4",
+            "5:Belleville:9:13:2",
+            "# connexions",
+            "1:2:120:1",
+            "2:3:180:1",
+            "3:2:150:1",
+            "3:4:60:4",
+            "1:5:240:2",
+            "5:3:400:2",
+            ""));
+
+        Graphe oriente = LireReseau.lire(fichier.toString(), false);
+        Graphe nonOriente = LireReseau.lire(fichier.toString(), true);
+        assertInstanceOf(GrapheListe.class, oriente);
+        assertInstanceOf(GrapheNonOriente.class, nonOriente);
+        assertEquals(5, ((GrapheNonOriente) nonOriente).nbAretes(), "La connexion répétée doit être fusionnée");
+
+        for (String depart : oriente.listeNoeuds()) {
+            Valeurs attendu = new Dijkstra().resoudre(oriente, depart);
+            Valeurs valeurs = new Dijkstra().resoudre(nonOriente, depart);
+            for (String n : oriente.listeNoeuds()) {
+                assertEquals(attendu.getValeur(n), valeurs.getValeur(n), 0.001, "Distance " + depart + "->" + n);
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package test;
+import graphe.Dijkstra;
+import graphe.GrapheListe;
+import graphe.GrapheVersionne;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Random;
+
+/**
+ * Tests unitaires pour le graphe versionné
+ */
+public class GrapheVersionneTest {
+
+    private GrapheVersionne reseau;
+
+    @BeforeEach
+    public void setUp() {
+        // Création du graphe de test (Figure 1 du sujet)
+        GrapheListe g = new GrapheListe();
+        g.ajouterArc("A", "B", 12);
+        g.ajouterArc("A", "D", 87);
+        g.ajouterArc("B", "E", 11);
+        g.ajouterArc("C", "A", 19);
+        g.ajouterArc("D", "B", 23);
+        g.ajouterArc("D", "C", 10);
+        g.ajouterArc("E", "D", 43);
+        reseau = new GrapheVersionne(g);
+    }
+
+    @Test
+    public void testAncienneVersionInchangee() {
+        GrapheVersionne.Version v0 = reseau.courante();
+        GrapheVersionne.Version v1 = reseau.modifier()
+                                           .changerCout("A", "D", 5)
+                                           .ajouterArc("D", "F", 1, "3")
+                                           .publier();
+
+        assertEquals(0, v0.numero());
+        assertEquals(1, v1.numero());
+        assertSame(v1, reseau.courante());
+        assertEquals(66.0, new Dijkstra().resoudre(v0, "A").getValeur("D"), 0.001);
+        assertEquals(5.0, new Dijkstra().resoudre(v1, "A").getValeur("D"), 0.001);
+        assertEquals(5, v0.nbNoeuds(), "La version 0 ne doit pas voir le nouveau nœud");
+        assertEquals(6, v1.nbNoeuds());
+        assertEquals("3", v1.suivants("D").get(2).getLigne());
+    }
+
+    @Test
+    public void testFermetureStation() {
+        GrapheVersionne.Version v1 = reseau.modifier().fermerStation("B").publier();
+
+        assertTrue(v1.estFermee("B"));
+        assertTrue(v1.suivants("B").isEmpty());
+        assertEquals(1, v1.suivants("A").size(), "L'arc vers une station fermée doit disparaître");
+        assertEquals(87.0, new Dijkstra().resoudre(v1, "A").getValeur("D"), 0.001);
+
+        GrapheVersionne.Version v2 = reseau.modifier().rouvrirStation("B").publier();
+        assertFalse(v2.estFermee("B"));
+        assertEquals(66.0, new Dijkstra().resoudre(v2, "A").getValeur("D"), 0.001);
+    }
+
+    @Test
+    public void testModificationInvalideNonPubliee() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> reseau.modifier().changerCout("A", "B", 1).changerCout("A", "C", 1).publier());
+        assertEquals(0, reseau.courante().numero());
+        assertEquals(12.0, reseau.courante().suivants("A").get(0).getCout(), 0.001);
+    }
+
+    @Test
+    public void testCopieSurPlusieursPages() {
+        // Plusieurs pages, des nœuds sans arcs et des degrés variés
+        Random r = new Random(11);
+        GrapheListe g = new GrapheListe();
+        for (int i = 0; i < 300; i++) {
+            g.ajouterNoeud("n" + i);
+        }
+        for (int i = 0; i < 2000; i++) {
+            int u = r.nextInt(200);
+            g.ajouterArc("n" + u, "n" + r.nextInt(300), r.nextInt(100), r.nextBoolean() ? "L" + r.nextInt(5) : null);
+        }
+        GrapheVersionne.Version v0 = new GrapheVersionne(g).courante();
+
+        assertEquals(g.listeNoeuds(), v0.listeNoeuds());
+        for (String n : g.listeNoeuds()) {
+            assertEquals(g.suivants(n).toString(), v0.suivants(n).toString(), "Arcs de " + n + " incorrects");
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package test;
+import graphe.GrapheListe;
+import graphe.IndexSpatial;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour l'index spatial des stations
+ */
+public class IndexSpatialTest {
+
+    private GrapheListe g;
+    private IndexSpatial index;
+
+    @BeforeEach
+    public void setUp() {
+        g = new GrapheListe();
+        g.ajouterNoeud("A", 0, 0);
+        g.ajouterNoeud("B", 10, 0);
+        g.ajouterNoeud("C", 0, 10);
+        g.ajouterNoeud("D", 10, 10);
+        g.ajouterNoeud("E", 4, 3);
+        g.ajouterNoeud("Sans position");
+        index = new IndexSpatial(g, g.getPositions());
+    }
+
+    @Test
+    public void testPlusProche() {
+        assertEquals(5, index.taille(), "Le nœud sans position n'est pas indexé");
+        assertEquals("E", index.stationLaPlusProche(5, 5));
+        assertEquals("D", index.stationLaPlusProche(100, 100));
+        assertNull(new IndexSpatial(new GrapheListe(), new GrapheListe().getPositions()).stationLaPlusProche(0, 0));
+    }
+
+    @Test
+    public void testPlusProches() {
+        int[] res = index.plusProches(2, 1, 3);
+        assertArrayEquals(new int[] {g.indice("A"), g.indice("E"), g.indice("B")}, res);
+        assertEquals(5, index.plusProches(0, 0, 10).length);
+        assertEquals(0, index.plusProches(0, 0, 0).length);
+    }
+
+    @Test
+    public void testDansRayon() {
+        assertArrayEquals(new int[] {g.indice("A"), g.indice("E")}, index.dansRayon(0, 0, 5));
+        assertEquals(0, index.dansRayon(50, 50, 1).length);
+        assertEquals(5, index.dansRayon(5, 5, 8).length);
+    }
+}
@@ -0,0 +1,155 @@
+package test;
+import graphe.AEtoile;
+import graphe.DijkstraTas;
+import graphe.GrapheListe;
+import graphe.PointsDeRepere;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Tests unitaires pour l'heuristique ALT par points de repère
+ */
+public class PointsDeRepereTest {
+
+    @TempDir
+    Path dossier;
+
+    private GrapheListe g;
+
+    @BeforeEach
+    public void setUp() {
+        // Graphe aléatoire sans coordonnées, avec un nœud isolé
+        Random r = new Random(3);
+        g = new GrapheListe();
+        for (int i = 0; i < 100; i++) {
+            g.ajouterNoeud("n" + i);
+        }
+        for (int i = 0; i < 350; i++) {
+            g.ajouterArc("n" + r.nextInt(99), "n" + r.nextInt(99), 1 + r.nextInt(9));
+        }
+    }
+
+    @Test
+    public void testMinorant() {
+        PointsDeRepere reperes = PointsDeRepere.calculer(g, 4);
+        assertEquals(4, reperes.nbReperes());
+        DijkstraTas dijkstra = new DijkstraTas();
+        AEtoile aEtoile = new AEtoile(reperes);
+        for (int u = 0; u < 100; u += 3) {
+            for (int t = 0; t < 100; t += 7) {
+                double cout = dijkstra.resoudre(g, "n" + u, "n" + t).getCout();
+                if (cout != Double.MAX_VALUE) {
+                    assertTrue(reperes.estimer(u, t) <= cout, "L'estimation doit minorer le vrai coût");
+                }
+                assertEquals(cout, aEtoile.resoudre(g, "n" + u, "n" + t).getCout());
+            }
+        }
+        // Le nœud isolé est inaccessible : l'estimation le prouve sans parcours
+        assertEquals(Double.POSITIVE_INFINITY, reperes.estimer(0, 99));
+        assertEquals(0, aEtoile.resoudre(g, "n0", "n99").getNbNoeudsTraites());
+    }
+
+    @Test
+    public void testImpasse() {
+        // Un cycle c0 -> ... -> c9 -> c0, une impasse accessible depuis c0 et un départ menant à c5
+        GrapheListe cycle = new GrapheListe();
+        for (int i = 0; i < 10; i++) {
+            cycle.ajouterArc("c" + i, "c" + (i + 1) % 10, 1 + i % 3);
+        }
+        cycle.ajouterArc("c0", "impasse", 1);
+        cycle.ajouterArc("depart", "c5", 1);
+        int impasse = cycle.indice("impasse");
+        int depart = cycle.indice("depart");
+
+        // Ces deux nœuds sont infiniment éloignés du cycle, mais ne sont pas de bons repères
+        PointsDeRepere reperes = PointsDeRepere.calculer(cycle, 3);
+        for (int i = 0; i < reperes.nbReperes(); i++) {
+            assertNotEquals(impasse, reperes.repere(i), "Une impasse ne doit pas être choisie comme repère");
+            assertNotEquals(depart, reperes.repere(i), "Un nœud sans arc entrant ne doit pas être choisi");
+        }
+        DijkstraTas dijkstra = new DijkstraTas();
+        for (String u : cycle.listeNoeuds()) {
+            for (String t : cycle.listeNoeuds()) {
+                double cout = dijkstra.resoudre(cycle, u, t).getCout();
+                double estimation = reperes.estimer(cycle.indice(u), cycle.indice(t));
+                assertTrue(cout == Double.MAX_VALUE || estimation <= cout, "Estimation de " + u + " -> " + t);
+            }
+        }
+
+        // Quand tous les nœuds du cycle sont pris, les nœuds hors de portée servent de repères
+        PointsDeRepere tous = PointsDeRepere.calculer(cycle, cycle.nbNoeuds());
+        boolean[] choisi = new boolean[cycle.nbNoeuds()];
+        for (int i = 0; i < tous.nbReperes(); i++) {
+            assertFalse(choisi[tous.repere(i)], "Un repère ne doit pas être choisi deux fois");
+            choisi[tous.repere(i)] = true;
+            if (i < 10) {
+                assertNotEquals(impasse, tous.repere(i));
+                assertNotEquals(depart, tous.repere(i));
+            }
+        }
+    }
+
+    @Test
+    public void testSauvegarde() throws IOException {
+        PointsDeRepere reperes = PointsDeRepere.calculer(g, 3);
+        Path fichier = dossier.resolve("reperes.bin");
+        reperes.sauvegarder(fichier);
+        PointsDeRepere charges = PointsDeRepere.charger(fichier, g);
+        assertEquals(reperes.getEmpreinte(), charges.getEmpreinte());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(reperes.repere(i), charges.repere(i));
+        }
+        assertEquals(reperes.estimer(5, 42), charges.estimer(5, 42));
+
+        // Une autre version du graphe n'utilise pas ces repères
+        g.ajouterArc("n1", "n2", 1);
+        assertThrows(IOException.class, () -> PointsDeRepere.charger(fichier, g));
+        PointsDeRepere recalcules = PointsDeRepere.chargerOuCalculer(fichier, g, 3);
+        assertEquals(PointsDeRepere.empreinte(g), recalcules.getEmpreinte());
+        assertEquals(recalcules.getEmpreinte(), PointsDeRepere.charger(fichier, g).getEmpreinte());
+    }
+
+    @Test
+    public void testFichierCorrompu() throws IOException {
+        Path fichier = dossier.resolve("reperes.bin");
+        PointsDeRepere.calculer(g, 2).sauvegarder(fichier);
+        byte[] octets = Files.readAllBytes(fichier);
+        octets[octets.length / 2] ^= 1;
+        Files.write(fichier, octets);
+        assertThrows(IOException.class, () -> PointsDeRepere.charger(fichier, g));
+    }
+
+    @Test
+    public void testNombreDeReperesCorrompu() throws IOException {
+        Path fichier = dossier.resolve("reperes.bin");
+        PointsDeRepere.calculer(g, 2).sauvegarder(fichier);
+        byte[] octets = Files.readAllBytes(fichier);
+        for (int k : new int[]{3, 100, Integer.MAX_VALUE}) {
+            ByteBuffer.wrap(octets).putInt(12, k);
+            Files.write(fichier, octets);
+            assertThrows(IOException.class, () -> PointsDeRepere.charger(fichier, g), k + " repères");
+        }
+        // Le fichier inutilisable est recalculé
+        assertEquals(2, PointsDeRepere.chargerOuCalculer(fichier, g, 2).nbReperes());
+        assertEquals(2, PointsDeRepere.charger(fichier, g).nbReperes());
+    }
+
+    @Test
+    public void testEmpreinteDesNoms() {
+        // "Aa" et "BB" ont le même hashCode() : l'empreinte doit quand même les distinguer
+        GrapheListe a = new GrapheListe();
+        a.ajouterArc("Aa", "C", 1);
+        GrapheListe b = new GrapheListe();
+        b.ajouterArc("BB", "C", 1);
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        assertNotEquals(PointsDeRepere.empreinte(a), PointsDeRepere.empreinte(b));
+    }
+}
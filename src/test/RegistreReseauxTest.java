@@ -0,0 +1,116 @@
+package test;
+import graphe.Graphe;
+import graphe.GrapheListe;
+import graphe.RegistreReseaux;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests unitaires pour le registre de réseaux chargés à la demande
+ */
+public class RegistreReseauxTest {
+
+    private RegistreReseaux registre;
+    private int nbChargements;
+
+    @BeforeEach
+    public void setUp() {
+        // Chaque réseau est estimé à 100 octets : le budget permet d'en garder deux
+        registre = new RegistreReseaux(250, g -> 100);
+        nbChargements = 0;
+        for (String id : List.of("a", "b", "c")) {
+            registre.enregistrer(id, () -> {
+                nbChargements++;
+                GrapheListe g = new GrapheListe();
+                g.ajouterArc(id, "X", 1);
+                return g;
+            });
+        }
+    }
+
+    @Test
+    public void testChargementALaDemande() throws IOException {
+        assertFalse(registre.estCharge("a"));
+        Graphe a = registre.obtenir("a");
+        assertEquals(0, a.indice("a"));
+        assertSame(a, registre.obtenir("a"), "Le réseau ne doit être chargé qu'une fois");
+        assertEquals(1, nbChargements);
+        assertTrue(registre.estCharge("a"));
+    }
+
+    @Test
+    public void testOubliDuMoinsRecemmentUtilise() throws IOException {
+        registre.obtenir("a");
+        registre.obtenir("b");
+        registre.obtenir("a");
+        registre.obtenir("c"); // Dépasse le budget : b est le moins récemment utilisé
+
+        assertEquals(List.of("a", "c"), registre.reseauxCharges());
+        assertEquals(200, registre.octetsCharges());
+        registre.obtenir("b");
+        assertEquals(4, nbChargements, "Un réseau oublié doit être rechargé");
+    }
+
+    @Test
+    public void testErreurs() {
+        assertThrows(IllegalArgumentException.class, () -> registre.obtenir("inconnu"));
+        registre.enregistrer("casse", () -> {
+            throw new IOException("fichier illisible");
+        });
+        assertThrows(IOException.class, () -> registre.obtenir("casse"));
+        assertFalse(registre.estCharge("casse"));
+    }
+
+    @Test
+    public void testObtenirConcurrent() throws Exception {
+        // Le chargement reste bloqué jusqu'à ce que tous les threads aient demandé le réseau
+        int nbThreads = 8;
+        AtomicInteger chargements = new AtomicInteger();
+        CountDownLatch depart = new CountDownLatch(1);
+        CountDownLatch libere = new CountDownLatch(1);
+        registre.enregistrer("lent", () -> {
+            chargements.incrementAndGet();
+            try {
+                libere.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            GrapheListe g = new GrapheListe();
+            g.ajouterArc("lent", "X", 1);
+            return g;
+        });
+
+        ExecutorService executeur = Executors.newFixedThreadPool(nbThreads);
+        try {
+            List<Future<Graphe>> resultats = new ArrayList<>();
+            for (int i = 0; i < nbThreads; i++) {
+                resultats.add(executeur.submit(() -> {
+                    depart.await();
+                    return registre.obtenir("lent");
+                }));
+            }
+            depart.countDown();
+            Thread.sleep(200); // Laisse les threads arriver sur le chargement en cours
+            libere.countDown();
+
+            Graphe premier = resultats.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<Graphe> resultat : resultats) {
+                assertSame(premier, resultat.get(10, TimeUnit.SECONDS), "Tous les threads doivent partager le même réseau");
+            }
+            assertEquals(1, chargements.get(), "Le réseau ne doit être chargé qu'une fois");
+        } finally {
+            executeur.shutdownNow();
+        }
+    }
+}
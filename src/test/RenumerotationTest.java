@@ -0,0 +1,92 @@
+package test;
+import graphe.Dijkstra;
+import graphe.GrapheCSR;
+import graphe.GrapheListe;
+import graphe.Renumerotation;
+import graphe.Valeurs;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Random;
+
+/**
+ * Tests unitaires pour la renumérotation des nœuds
+ */
+public class RenumerotationTest {
+
+    private GrapheListe grapheTest;
+
+    @BeforeEach
+    public void setUp() {
+        // Graphe aléatoire en plusieurs composantes, avec des nœuds isolés
+        Random r = new Random(7);
+        grapheTest = new GrapheListe();
+        for (int i = 0; i < 300; i++) {
+            grapheTest.ajouterNoeud("n" + i);
+        }
+        for (int i = 0; i < 900; i++) {
+            int composante = r.nextInt(3) * 90;
+            grapheTest.ajouterArc("n" + (composante + r.nextInt(90)), "n" + (composante + r.nextInt(90)),
+                                  r.nextInt(50), "L" + r.nextInt(4));
+        }
+    }
+
+    @Test
+    public void testPermutation() {
+        Renumerotation renum = Renumerotation.cuthillMcKeeInverse(grapheTest);
+        GrapheCSR g = renum.getGraphe();
+        int n = grapheTest.nbNoeuds();
+
+        assertEquals(n, g.nbNoeuds());
+        boolean[] vu = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            int ancien = renum.ancienIndice(i);
+            assertFalse(vu[ancien], "Le nœud " + ancien + " apparaît deux fois");
+            vu[ancien] = true;
+            assertEquals(i, renum.nouvelIndice(ancien));
+            assertEquals(grapheTest.nom(ancien), g.nom(i), "Nom du nœud " + i + " incorrect");
+        }
+        for (String nom : grapheTest.listeNoeuds()) {
+            assertEquals(renum.nouvelIndice(grapheTest.indice(nom)), g.indice(nom), "Indice de " + nom + " incorrect");
+        }
+    }
+
+    @Test
+    public void testMemesCouts() {
+        Renumerotation renum = Renumerotation.cuthillMcKeeInverse(grapheTest);
+        for (String depart : new String[]{"n0", "n100", "n200", "n299"}) {
+            Valeurs attendu = new Dijkstra().resoudre(grapheTest, depart);
+            Valeurs valeurs = new Dijkstra().resoudre(renum.getGraphe(), depart);
+            for (String n : grapheTest.listeNoeuds()) {
+                assertEquals(attendu.getValeur(n), valeurs.getValeur(n), 0.001, "Distance " + depart + "->" + n);
+            }
+        }
+    }
+
+    @Test
+    public void testOrdreInvalide() {
+        int[] ordre = new int[grapheTest.nbNoeuds()]; // Que des 0 : pas une permutation
+        assertThrows(IllegalArgumentException.class, () -> Renumerotation.appliquer(grapheTest, ordre));
+        assertThrows(IllegalArgumentException.class, () -> Renumerotation.appliquer(grapheTest, new int[3]));
+
+        // Indices hors de 0..nbNoeuds-1
+        int[] negatif = identite(grapheTest.nbNoeuds());
+        negatif[5] = -1;
+        assertThrows(IllegalArgumentException.class, () -> Renumerotation.appliquer(grapheTest, negatif));
+        int[] tropGrand = identite(grapheTest.nbNoeuds());
+        tropGrand[5] = grapheTest.nbNoeuds();
+        assertThrows(IllegalArgumentException.class, () -> Renumerotation.appliquer(grapheTest, tropGrand));
+    }
+
+    /**
+     * Retourne l'ordre identité 0, 1, ..., n-1
+     */
+    private static int[] identite(int n) {
+        int[] ordre = new int[n];
+        for (int i = 0; i < n; i++) {
+            ordre[i] = i;
+        }
+        return ordre;
+    }
+}
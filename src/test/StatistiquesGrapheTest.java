@@ -0,0 +1,65 @@
+package test;
+import graphe.GrapheListe;
+import graphe.StatistiquesGraphe;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour le rapport sur la forme et la mémoire d'un graphe
+ */
+public class StatistiquesGrapheTest {
+
+    private GrapheListe g;
+
+    @BeforeEach
+    public void setUp() {
+        g = new GrapheListe();
+        g.ajouterArc("A", "B", 1, "1");
+        g.ajouterArc("A", "C", 2, "1");
+        g.ajouterArc("A", "D", 3, "2");
+        g.ajouterArc("B", "C", 1);
+        g.ajouterArc("C", "A", 4, "1");
+        g.ajouterNoeud("E");
+    }
+
+    @Test
+    public void testForme() {
+        StatistiquesGraphe s = new StatistiquesGraphe(g);
+        assertEquals("GrapheListe", s.getType());
+        assertEquals(5, s.getNbNoeuds());
+        assertEquals(5, s.getNbArcs());
+        assertEquals(2, s.getNbLignes());
+        assertEquals(2, s.getNbLignesUtilisees());
+        assertEquals(1, s.getNbArcsSansLigne());
+        assertEquals(0, s.getDegreMin());
+        assertEquals(3, s.getDegreMax());
+        assertEquals(1.0, s.getDegreMoyen(), 1e-9);
+        assertEquals(2, s.getDegreEntrantMax(), "C est la destination de deux arcs");
+        assertEquals(2, s.getNbSansSuccesseur(), "D et E n'ont pas de successeur");
+        assertEquals(1, s.getNbSansPredecesseur(), "Seul E n'a pas de prédécesseur");
+        assertEquals(2, s.nbNoeudsDeDegre(0));
+        assertEquals(2, s.nbNoeudsDeDegre(1));
+        assertEquals(1, s.nbNoeudsDeDegre(3), "A est dans la classe 2-3");
+    }
+
+    @Test
+    public void testMemoire() {
+        StatistiquesGraphe liste = new StatistiquesGraphe(g);
+        StatistiquesGraphe csr = new StatistiquesGraphe(g.figer());
+        assertTrue(liste.getOctets() > 0);
+        assertTrue(csr.getOctets() > 0);
+        assertEquals(csr.getOctets(), StatistiquesGraphe.estimerOctets(g.figer()));
+        assertTrue(csr.getOctets() < liste.getOctets(), "La forme CSR doit être plus compacte");
+        assertEquals((double) csr.getOctets() / 5, csr.octetsParArc(), 1e-9);
+    }
+
+    @Test
+    public void testJson() {
+        String json = new StatistiquesGraphe(g).toJson();
+        assertTrue(json.startsWith("{\"type\":\"GrapheListe\",\"noeuds\":5,\"arcs\":5,"));
+        assertTrue(json.contains("\"histogrammeDegres\":{\"0\":2,\"1\":2,\"2-3\":1}"));
+        assertTrue(json.endsWith("}"));
+    }
+}
@@ -0,0 +1,44 @@
+package test;
+import graphe.TableNoms;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour la table des noms des nœuds
+ */
+public class TableNomsTest {
+
+    @Test
+    public void testAjouterEtRetrouver() {
+        TableNoms table = new TableNoms();
+        assertEquals(0, table.ajouter("Châtelet"));
+        assertEquals(1, table.ajouter("Gare de l'Est"));
+        assertEquals(2, table.ajouter("Étienne Marcel"));
+
+        // Un nom déjà présent garde son indice
+        assertEquals(0, table.ajouter("Châtelet"));
+        assertEquals(3, table.taille());
+
+        assertEquals("Châtelet", table.nom(0));
+        assertEquals("Étienne Marcel", table.nom(2));
+        assertEquals(1, table.indice("Gare de l'Est"));
+        assertEquals(-1, table.indice("Chatelet"), "Les accents doivent être respectés");
+        assertEquals(-1, table.indice(""));
+    }
+
+    @Test
+    public void testNombreuxNoms() {
+        TableNoms table = new TableNoms();
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(i, table.ajouter("Arrêt " + i));
+        }
+        TableNoms compacte = table.compacter();
+        for (int i = 0; i < 10000; i += 7) {
+            assertEquals(i, table.indice("Arrêt " + i));
+            assertEquals(i, compacte.indice("Arrêt " + i));
+            assertEquals("Arrêt " + i, compacte.nom(i));
+        }
+        assertTrue(compacte.octetsUtilises() <= table.octetsUtilises());
+    }
+}